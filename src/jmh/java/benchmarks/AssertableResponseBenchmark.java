@@ -0,0 +1,133 @@
+package benchmarks;
+
+import assertions.AssertableResponse;
+import assertions.GenericAssertableResponse;
+import assertions.ResponseSnapshot;
+import assertions.conditions.MessageCondition;
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.response.Response;
+import models.fakeapiusers.POJORequestAddUser;
+import models.swager.FullUser;
+import models.swager.Info;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static assertions.Conditions.hasMessage;
+import static assertions.Conditions.hasStatusCode;
+
+/**
+ * AssertableResponseBenchmark - стоимость обертки над ответом:
+ * извлечение объектов, списков и проверка условий на заранее собранных ответах.
+ * Каждая операция создает новую обертку, как это делает сервис на каждый запрос.
+ * Ответы, зависящие от размера, лежат в отдельных @State, чтобы @Param
+ * размножали только те бенчмарки, которые от них зависят.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AssertableResponseBenchmark {
+
+    private Response infoResponse;
+    private final MessageCondition userCreated = hasMessage("User created");
+
+    @Setup
+    public void setUp() {
+        infoResponse = CannedResponses.json(201, CannedResponses.info("User created"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class SingleUser {
+        @Param({"0", "5"})
+        public int gamesPerUser;
+
+        private Response userResponse;
+
+        @Setup
+        public void setUp() {
+            userResponse = CannedResponses.json(200, CannedResponses.users(1, gamesPerUser).get(0));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserList {
+        @Param({"1", "10000"})
+        public int users;
+
+        @Param({"0", "5"})
+        public int gamesPerUser;
+
+        private Response usersResponse;
+
+        @Setup
+        public void setUp() {
+            usersResponse = CannedResponses.json(200, CannedResponses.users(users, gamesPerUser));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FakeStoreUserList {
+        @Param({"1", "10000"})
+        public int users;
+
+        private Response fakeStoreUsersResponse;
+
+        @Setup
+        public void setUp() {
+            fakeStoreUsersResponse = CannedResponses.json(200, CannedResponses.fakeStoreUsers(users));
+        }
+    }
+
+    @Benchmark
+    public Info asInfo() {
+        return new AssertableResponse(infoResponse.then()).as("info", Info.class);
+    }
+
+    @Benchmark
+    public Info shouldChainThenAs() {
+        return new AssertableResponse(infoResponse.then())
+                .should(hasStatusCode(201))
+                .should(userCreated)
+                .as("info", Info.class);
+    }
+
+    @Benchmark
+    public ResponseSnapshot messageConditionCheck() {
+        ResponseSnapshot snapshot = new ResponseSnapshot(infoResponse.then());
+        userCreated.check(snapshot);
+        return snapshot;
+    }
+
+    @Benchmark
+    public FullUser asFullUser(SingleUser state) {
+        return new AssertableResponse(state.userResponse.then()).as(FullUser.class);
+    }
+
+    @Benchmark
+    public List<FullUser> asListFullUsers(UserList state) {
+        return new AssertableResponse(state.usersResponse.then()).asList(FullUser.class);
+    }
+
+    @Benchmark
+    public List<POJORequestAddUser> asListFakeStoreUsers(FakeStoreUserList state) {
+        return new AssertableResponse(state.fakeStoreUsersResponse.then()).asList(POJORequestAddUser.class);
+    }
+
+    @Benchmark
+    public FullUser genericAsObject(SingleUser state) {
+        return new GenericAssertableResponse<>(state.userResponse.then(), new TypeRef<FullUser>() {}).asObject();
+    }
+
+    @Benchmark
+    public FullUser genericAsObjectByPath(UserList state) {
+        return new GenericAssertableResponse<>(state.usersResponse.then(), new TypeRef<FullUser>() {}).asObject("[0]");
+    }
+}
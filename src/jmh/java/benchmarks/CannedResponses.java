@@ -0,0 +1,117 @@
+package benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import lombok.SneakyThrows;
+import models.fakeapiusers.Address;
+import models.fakeapiusers.Geolocation;
+import models.fakeapiusers.Name;
+import models.fakeapiusers.POJORequestAddUser;
+import models.swager.DlcsItem;
+import models.swager.FullUser;
+import models.swager.GamesItem;
+import models.swager.Info;
+import models.swager.Requirements;
+import models.swager.SimilarDlc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CannedResponses - заранее собранные ответы реалистичного размера без сети и Faker:
+ * данные детерминированы, чтобы прогоны бенчмарков были сравнимы между собой
+ */
+public final class CannedResponses {
+    public static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CannedResponses() {
+    }
+
+    public static Response json(int statusCode, Object body) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setContentType(ContentType.JSON)
+                .setBody(toJson(body))
+                .build();
+    }
+
+    public static Map<String, Object> info(String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("info", new Info(message, "success"));
+        return body;
+    }
+
+    public static List<FullUser> users(int count, int gamesPerUser) {
+        List<FullUser> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<GamesItem> games = new ArrayList<>(gamesPerUser);
+            for (int g = 0; g < gamesPerUser; g++) {
+                games.add(game(i * 31 + g));
+            }
+            users.add(FullUser.builder()
+                    .login("threadSergQAUser" + i)
+                    .pass("passwordCOOL")
+                    .games(gamesPerUser == 0 ? null : games)
+                    .build());
+        }
+        return users;
+    }
+
+    public static List<POJORequestAddUser> fakeStoreUsers(int count) {
+        List<POJORequestAddUser> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(POJORequestAddUser.builder()
+                    .id(i)
+                    .email("user" + i + "@gmail.com")
+                    .username("user" + i)
+                    .password("pass" + i)
+                    .phone("1-570-236-" + (7000 + i % 1000))
+                    .name(new Name("first" + i, "last" + i))
+                    .address(Address.builder()
+                            .city("kilcoole")
+                            .street("new road")
+                            .number(String.valueOf(i))
+                            .zipcode(String.format("%05d-%04d", i % 100000, i % 10000))
+                            .geolocation(new Geolocation("-37.3159", "81.1496"))
+                            .build())
+                    .build());
+        }
+        return users;
+    }
+
+    private static GamesItem game(int seed) {
+        DlcsItem dlc = DlcsItem.builder()
+                .dlcName("dlc" + seed)
+                .description("Extra content " + seed)
+                .price(seed % 500)
+                .rating(seed % 10)
+                .similarDlc(new SimilarDlc(false, "similar" + seed))
+                .build();
+        return GamesItem.builder()
+                .gameId(seed)
+                .title("Game " + seed)
+                .genre("Action")
+                .company("Company " + seed % 50)
+                .description("Description of game " + seed)
+                .price(seed % 400)
+                .rating(seed % 10)
+                .isFree(false)
+                .requiredAge(seed % 2 == 0)
+                .publishDate("2024-01-01T00:00:00")
+                .tags(Arrays.asList("shooter", "quests"))
+                .requirements(new Requirements("NVIDEA", 30 + seed % 40, "Windows", 4 + seed % 12))
+                .dlcs(Collections.singletonList(dlc))
+                .build();
+    }
+
+    @SneakyThrows
+    public static String toJson(Object body) {
+        return MAPPER.writeValueAsString(body);
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import models.swager.FullUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonMappingBenchmark - базовая линия: чистый Jackson на тех же графах FullUser/GamesItem,
+ * с которой сравниваются извлечения через AssertableResponse.
+ * Параметры размера объявлены в состояниях, от которых зависят бенчмарки.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JacksonMappingBenchmark {
+    private static final TypeReference<List<FullUser>> USER_LIST = new TypeReference<List<FullUser>>() {};
+
+    @State(Scope.Benchmark)
+    public static class SingleUser {
+        @Param({"0", "5"})
+        public int gamesPerUser;
+
+        private String userJson;
+
+        @Setup
+        public void setUp() {
+            userJson = CannedResponses.toJson(CannedResponses.users(1, gamesPerUser).get(0));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserList {
+        @Param({"1", "10000"})
+        public int users;
+
+        @Param({"0", "5"})
+        public int gamesPerUser;
+
+        private String usersJson;
+        private List<FullUser> usersObjects;
+
+        @Setup
+        public void setUp() {
+            usersObjects = CannedResponses.users(users, gamesPerUser);
+            usersJson = CannedResponses.toJson(usersObjects);
+        }
+    }
+
+    @Benchmark
+    public FullUser readFullUser(SingleUser state) throws IOException {
+        return CannedResponses.MAPPER.readValue(state.userJson, FullUser.class);
+    }
+
+    @Benchmark
+    public List<FullUser> readFullUserList(UserList state) throws IOException {
+        return CannedResponses.MAPPER.readValue(state.usersJson, USER_LIST);
+    }
+
+    @Benchmark
+    public String writeFullUserList(UserList state) throws IOException {
+        return CannedResponses.MAPPER.writeValueAsString(state.usersObjects);
+    }
+}
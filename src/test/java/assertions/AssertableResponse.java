@@ -2,46 +2,60 @@ package assertions;
 
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 /**
  * AssertableResponse - класс обертка от given() до then() вкл.
+ * Все проверки и извлечения работают с одним ResponseSnapshot
  */
 
-@RequiredArgsConstructor
 public class AssertableResponse {
 
-    private final ValidatableResponse response;
+    private final ResponseSnapshot response;
+
+    public AssertableResponse(ValidatableResponse response) {
+        this.response = new ResponseSnapshot(response);
+    }
 
     public AssertableResponse should(Condition condition) {
         condition.check(response);
         return this;
     }
 
+    /**
+     * Все условия проверяются до конца, упавшие сообщаются вместе
+     */
+    public AssertableResponse shouldAll(Condition... conditions) {
+        return should(Conditions.allOf(conditions));
+    }
+
     public String asJwt() {
-        return response.extract().jsonPath().getString("token");
+        return response.getString("token");
     }
 
     public <T> T as(Class<T> tClass) {
-        return response.extract().as(tClass);
+        return response.as(tClass);
     }
 
     public <T> T as(String jsonPath, Class<T> tClass) {
-        return response.extract().jsonPath().getObject(jsonPath, tClass);
+        return response.get(jsonPath, tClass);
     }
 
     public <T> List<T> asList(Class<T> tClass) {
-        return response.extract().jsonPath().getList("", tClass);
+        return response.getList("", tClass);
     }
 
     public <T> List<T> asList(String jsonPath, Class<T> tClass) {
-        return response.extract().jsonPath().getList(jsonPath, tClass);
+        return response.getList(jsonPath, tClass);
     }
 
     public Response asResponse() {
-        return response.extract().response();
+        return response.response();
+    }
+
+    public ResponseSnapshot asSnapshot() {
+        return response;
     }
 
 }
@@ -1,12 +1,30 @@
 package assertions;
 
+import assertions.conditions.ArraySizeCondition;
+import assertions.conditions.BodyDigestCondition;
+import assertions.conditions.BodySizeCondition;
+import assertions.conditions.CompositeCondition;
+import assertions.conditions.ContentTypeCondition;
+import assertions.conditions.ElementMatchCondition;
+import assertions.conditions.LatencyPercentileCondition;
 import assertions.conditions.MessageCondition;
+import assertions.conditions.ResponseTimeCondition;
+import assertions.conditions.SchemaCondition;
+import assertions.conditions.SortedCondition;
 import assertions.conditions.StatusCodeCondition;
+import assertions.conditions.UniqueValuesCondition;
+import utils.FixtureDigests;
+
+import java.io.File;
+import java.util.function.Predicate;
 
 /**
  * Conditions - через статичные методы создаем экземпляры
  */
 public class Conditions {
+    /**
+     * Перцентиль по нескольким вызовам ничего не говорит, до этого числа замеров он не проверяется
+     */
     public static MessageCondition hasMessage(String expectedMessage) {
         return new MessageCondition(expectedMessage);
     }
@@ -14,4 +32,87 @@ public class Conditions {
     public static StatusCodeCondition hasStatusCode(Integer expectedStatus) {
         return new StatusCodeCondition(expectedStatus);
     }
+
+    public static BodyDigestCondition hasSha256(String expectedSha256) {
+        return new BodyDigestCondition(expectedSha256);
+    }
+
+    public static BodyDigestCondition hasSameContentAs(File expectedFile) {
+        return new BodyDigestCondition(FixtureDigests.of(expectedFile).getSha256());
+    }
+
+    public static BodySizeCondition hasBodySize(long expectedSize) {
+        return new BodySizeCondition(expectedSize);
+    }
+
+    public static ContentTypeCondition hasContentType(String expectedContentType) {
+        return new ContentTypeCondition(expectedContentType);
+    }
+
+    public static ResponseTimeCondition respondsWithin(long maxMillis) {
+        return new ResponseTimeCondition(maxMillis);
+    }
+
+    public static LatencyPercentileCondition hasLatencyPercentile(String method, String path,
+                                                                  double percentile, long maxMillis) {
+        return new LatencyPercentileCondition(method, path, percentile, maxMillis);
+    }
+
+    /*
+     * Потоковые проверки массивов, путь как в JsonArrayStream:
+     * "id" - поле элементов корневого массива, "users[].id" - поле элементов массива users
+     */
+    public static ArraySizeCondition hasArraySize(long expectedSize) {
+        return new ArraySizeCondition("", expectedSize, expectedSize);
+    }
+
+    public static ArraySizeCondition hasArraySize(String arrayPath, long expectedSize) {
+        return new ArraySizeCondition(arrayPath, expectedSize, expectedSize);
+    }
+
+    public static ArraySizeCondition hasArraySizeAtLeast(long minSize) {
+        return new ArraySizeCondition("", minSize, Long.MAX_VALUE);
+    }
+
+    public static ArraySizeCondition hasArraySizeAtLeast(String arrayPath, long minSize) {
+        return new ArraySizeCondition(arrayPath, minSize, Long.MAX_VALUE);
+    }
+
+    public static SortedCondition isSortedAscBy(String path) {
+        return new SortedCondition(path, false);
+    }
+
+    public static SortedCondition isSortedDescBy(String path) {
+        return new SortedCondition(path, true);
+    }
+
+    public static UniqueValuesCondition hasUniqueValues(String path) {
+        return new UniqueValuesCondition(path);
+    }
+
+    public static ElementMatchCondition allElementsMatch(String path, Predicate<Object> predicate, String description) {
+        return new ElementMatchCondition(path, predicate, true, description);
+    }
+
+    public static ElementMatchCondition anyElementMatches(String path, Predicate<Object> predicate, String description) {
+        return new ElementMatchCondition(path, predicate, false, description);
+    }
+
+    /**
+     * Схема модели из src/test/resources/schemas/<ИмяКласса>.json, компилируется один раз
+     */
+    public static SchemaCondition matchesSchema(Class<?> model) {
+        return new SchemaCondition(JsonSchemas.forModel(model), model.getSimpleName());
+    }
+
+    public static SchemaCondition matchesSchema(String resource) {
+        return new SchemaCondition(JsonSchemas.forResource(resource), resource);
+    }
+
+    /**
+     * Все условия по одному снимку, ошибки собираются вместе
+     */
+    public static CompositeCondition allOf(Condition... conditions) {
+        return new CompositeCondition(conditions);
+    }
 }
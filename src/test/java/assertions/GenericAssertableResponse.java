@@ -3,7 +3,6 @@ package assertions;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
-import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
@@ -14,34 +13,49 @@ import java.util.List;
  * у нас это будет <Info>
  */
 
-@RequiredArgsConstructor
 public class GenericAssertableResponse<T> {
 
-    private final ValidatableResponse response;
+    private final ResponseSnapshot response;
     private final TypeRef<T> clazz;
 
+    public GenericAssertableResponse(ValidatableResponse response, TypeRef<T> clazz) {
+        this.response = new ResponseSnapshot(response);
+        this.clazz = clazz;
+    }
+
     public GenericAssertableResponse<T> should(Condition condition) {
         condition.check(response);
         return this;
     }
 
+    /**
+     * Все условия проверяются до конца, упавшие сообщаются вместе
+     */
+    public GenericAssertableResponse<T> shouldAll(Condition... conditions) {
+        return should(Conditions.allOf(conditions));
+    }
+
     public T asObject() {
-        return response.extract().as(clazz);
+        return response.as(clazz);
     }
 
     public T asObject(String jsonPath) {
-        return response.extract().jsonPath().getObject(jsonPath, clazz);
+        return response.get(jsonPath, clazz);
     }
 
     public List<T> asList(Class<T> tClass) {
-        return response.extract().jsonPath().getList("", clazz.getTypeAsClass());
+        return response.getList("", clazz.getTypeAsClass());
     }
 
     public List<T> asList(String jsonPath) {
-        return response.extract().jsonPath().getList(jsonPath, clazz.getTypeAsClass());
+        return response.getList(jsonPath, clazz.getTypeAsClass());
     }
 
     public Response asResponse() {
-        return response.extract().response();
+        return response.response();
+    }
+
+    public ResponseSnapshot asSnapshot() {
+        return response;
     }
 }
@@ -0,0 +1,274 @@
+package assertions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.SneakyThrows;
+import utils.Json;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * JsonArrayStream - проход по json-массиву ответа потоковым парсером Jackson, без связывания элементов.
+ * Путь к значению: "id" - поле элементов корневого массива, "users[].address.zipcode" - поле элементов
+ * массива users, "" или "users[]" - сами элементы.
+ * Значение каждого элемента передается в Visitor через один переиспользуемый Value:
+ * числа лежат в примитивных полях и не упаковываются, ненужные поддеревья пропускаются через skipChildren().
+ */
+public final class JsonArrayStream {
+    private static final String ARRAY_MARKER = "[]";
+
+    private JsonArrayStream() {
+    }
+
+    public interface Visitor {
+        /**
+         * Value переиспользуется для следующего элемента, сохранять нужно копию (Value.assign())
+         *
+         * @return false - прекратить проход
+         */
+        boolean visit(Value value);
+    }
+
+    /**
+     * Значение поля одного элемента массива
+     */
+    public static final class Value {
+        public enum Kind { LONG, DOUBLE, STRING, BOOLEAN, NULL, MISSING, STRUCTURE }
+
+        private Kind kind = Kind.MISSING;
+        private long longValue;
+        private double doubleValue;
+        private String text;
+
+        public Kind kind() {
+            return kind;
+        }
+
+        public long longValue() {
+            return longValue;
+        }
+
+        public double doubleValue() {
+            return kind == Kind.LONG ? longValue : doubleValue;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public boolean booleanValue() {
+            return longValue != 0;
+        }
+
+        /**
+         * null в json или поля нет в элементе
+         */
+        public boolean isAbsent() {
+            return kind == Kind.NULL || kind == Kind.MISSING;
+        }
+
+        /**
+         * Копирует значение other в этот экземпляр, чтобы сохранить его между элементами без новых объектов
+         */
+        public Value assign(Value other) {
+            kind = other.kind;
+            longValue = other.longValue;
+            doubleValue = other.doubleValue;
+            text = other.text;
+            return this;
+        }
+
+        /**
+         * Сравнение однотипных значений: числа между собой, строки, булевы
+         */
+        public int compareTo(Value other) {
+            if (kind == Kind.LONG && other.kind == Kind.LONG) {
+                return Long.compare(longValue, other.longValue);
+            }
+            if (isNumber() && other.isNumber()) {
+                return Double.compare(doubleValue(), other.doubleValue());
+            }
+            if (kind == Kind.STRING && other.kind == Kind.STRING) {
+                return text.compareTo(other.text);
+            }
+            if (kind == Kind.BOOLEAN && other.kind == Kind.BOOLEAN) {
+                return Boolean.compare(booleanValue(), other.booleanValue());
+            }
+            throw new AssertionError("Значения нельзя сравнить: " + this + " и " + other);
+        }
+
+        /**
+         * Упакованное значение: Long, Double, String, Boolean или null (для предикатов и сообщений)
+         */
+        public Object toObject() {
+            switch (kind) {
+                case LONG:
+                    return longValue;
+                case DOUBLE:
+                    return doubleValue;
+                case STRING:
+                    return text;
+                case BOOLEAN:
+                    return booleanValue();
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+                case MISSING:
+                    return "<нет поля>";
+                case STRUCTURE:
+                    return "<объект или массив>";
+                default:
+                    return String.valueOf(toObject());
+            }
+        }
+
+        private boolean isNumber() {
+            return kind == Kind.LONG || kind == Kind.DOUBLE;
+        }
+
+        private Value set(Kind kind) {
+            this.kind = kind;
+            this.text = null;
+            return this;
+        }
+    }
+
+    /**
+     * @return число просмотренных элементов
+     */
+    public static long scan(ResponseSnapshot response, String path, Visitor visitor) {
+        return scan(response.body(), path, visitor);
+    }
+
+    @SneakyThrows
+    public static long scan(byte[] body, String path, Visitor visitor) {
+        int marker = path.indexOf(ARRAY_MARKER);
+        String arrayPath = marker < 0 ? "" : path.substring(0, marker);
+        String field = marker < 0 ? path : path.substring(marker + ARRAY_MARKER.length());
+        String[] arraySegments = segments(arrayPath);
+        String[] fieldSegments = segments(field);
+
+        try (JsonParser parser = Json.MAPPER.getFactory().createParser(body)) {
+            parser.nextToken();
+            if (!moveTo(parser, arraySegments) || parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new AssertionError("В ответе нет массива по пути '" + arrayPath + "'");
+            }
+            Value value = new Value();
+            long count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                count++;
+                if (!visitor.visit(extract(parser, fieldSegments, 0, value.set(Value.Kind.MISSING)))) {
+                    break;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Целые значения поля элементов в примитивный массив.
+     * Пустое, дробное или нечисловое значение - ошибка, а не 0.
+     */
+    public static long[] longs(ResponseSnapshot response, String path) {
+        long[][] values = {new long[16]};
+        int[] size = new int[1];
+        scan(response, path, value -> {
+            if (value.kind() != Value.Kind.LONG) {
+                throw new AssertionError("Элемент " + size[0] + " по пути '" + path
+                        + "' не целое число: " + value);
+            }
+            if (size[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], size[0] * 2);
+            }
+            values[0][size[0]++] = value.longValue();
+            return true;
+        });
+        return Arrays.copyOf(values[0], size[0]);
+    }
+
+    private static boolean moveTo(JsonParser parser, String[] segments) throws IOException {
+        for (String segment : segments) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            boolean found = false;
+            while (!found && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (segment.equals(name)) {
+                    found = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Значение поля элемента в value, элемент прочитывается до конца
+     */
+    private static Value extract(JsonParser parser, String[] segments, int depth, Value value) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (depth == segments.length) {
+            return scalar(parser, token, value);
+        }
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return value;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (segments[depth].equals(name)) {
+                extract(parser, segments, depth + 1, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    private static Value scalar(JsonParser parser, JsonToken token, Value value) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    throw new AssertionError("Целое вне диапазона long: " + parser.getText());
+                }
+                value.set(Value.Kind.LONG).longValue = parser.getLongValue();
+                return value;
+            case VALUE_NUMBER_FLOAT:
+                value.set(Value.Kind.DOUBLE).doubleValue = parser.getDoubleValue();
+                return value;
+            case VALUE_STRING:
+                value.set(Value.Kind.STRING).text = parser.getText();
+                return value;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                value.set(Value.Kind.BOOLEAN).longValue = token == JsonToken.VALUE_TRUE ? 1 : 0;
+                return value;
+            case VALUE_NULL:
+                return value.set(Value.Kind.NULL);
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return value.set(Value.Kind.STRUCTURE);
+            default:
+                return value;
+        }
+    }
+
+    private static String[] segments(String path) {
+        String trimmed = path.startsWith(".") ? path.substring(1) : path;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\.");
+    }
+}
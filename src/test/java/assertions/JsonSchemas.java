@@ -0,0 +1,46 @@
+package assertions;
+
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JsonSchemas - json-схемы моделей из src/test/resources/schemas/<ИмяКласса>.json.
+ * Схема читается и компилируется один раз на JVM, дальше берется из кэша,
+ * поэтому проверку схемы можно ставить на каждый вызов.
+ */
+public final class JsonSchemas {
+    private static final String LOCATION = "schemas/";
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    private static final Map<String, JsonSchema> COMPILED = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+    }
+
+    public static JsonSchema forModel(Class<?> model) {
+        return forResource(LOCATION + model.getSimpleName() + ".json");
+    }
+
+    public static JsonSchema forResource(String resource) {
+        return COMPILED.computeIfAbsent(resource, JsonSchemas::compile);
+    }
+
+    private static JsonSchema compile(String resource) {
+        try (InputStream in = JsonSchemas.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Схема не найдена: " + resource);
+            }
+            JsonSchema schema = FACTORY.getSchema(in);
+            schema.initializeValidators();
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package assertions;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.http.Headers;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import listener.AttachmentPolicy;
+import lombok.SneakyThrows;
+import utils.FileDigest;
+import utils.Json;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ResponseSnapshot - ответ, разобранный один раз.
+ * Статус, заголовки и json-дерево строятся лениво при первом обращении,
+ * извлеченные объекты кэшируются по ключу путь + тип.
+ * Извлечение идет через Jackson: тело целиком связывается с типом напрямую,
+ * простые пути читаются из одного разобранного дерева, JsonPath (Groovy)
+ * используется только для выражений, которые Json.navigate не разбирает.
+ * Бинарное тело читается потоком только в bodyDigest(), после этого текстовый доступ
+ * к телу запрещен и падает с понятной ошибкой, а не с пустым телом.
+ * Один экземпляр на один ответ, между потоками не передается.
+ */
+public class ResponseSnapshot {
+    private static final AttachmentPolicy BODY_POLICY = AttachmentPolicy.defaults();
+
+    private final ValidatableResponse validatableResponse;
+    private final Map<String, Object> typedCache = new HashMap<>();
+
+    private Response response;
+    private Integer statusCode;
+    private Headers headers;
+    private JsonPath jsonPath;
+    private JsonNode tree;
+    private FileDigest bodyDigest;
+    private boolean bodyStreamed;
+
+    public ResponseSnapshot(ValidatableResponse validatableResponse) {
+        this.validatableResponse = validatableResponse;
+    }
+
+    public ValidatableResponse validatable() {
+        return validatableResponse;
+    }
+
+    public Response response() {
+        if (response == null) {
+            response = validatableResponse.extract().response();
+        }
+        return response;
+    }
+
+    public int statusCode() {
+        if (statusCode == null) {
+            statusCode = response().statusCode();
+        }
+        return statusCode;
+    }
+
+    public Headers headers() {
+        if (headers == null) {
+            headers = response().headers();
+        }
+        return headers;
+    }
+
+    public JsonPath json() {
+        if (jsonPath == null) {
+            requireBody();
+            jsonPath = response().jsonPath();
+        }
+        return jsonPath;
+    }
+
+    /**
+     * json-дерево тела, разбирается один раз
+     */
+    @SneakyThrows
+    public JsonNode tree() {
+        if (tree == null) {
+            byte[] body = body();
+            tree = body.length == 0 ? Json.MAPPER.missingNode() : Json.MAPPER.readTree(body);
+        }
+        return tree;
+    }
+
+    /**
+     * Тело ответа целиком, для текстовых и json-проверок
+     */
+    public byte[] body() {
+        requireBody();
+        return response().asByteArray();
+    }
+
+    /**
+     * Длина и sha-256 тела, считаются один раз.
+     * Бинарное тело читается потоком без буферизации, текстовое - из уже буферизованных байтов.
+     */
+    public FileDigest bodyDigest() {
+        if (bodyDigest == null) {
+            if (BODY_POLICY.isBinary(response().getContentType())) {
+                bodyStreamed = true;
+                bodyDigest = FileDigest.copy(response().asInputStream(), OutputStream.nullOutputStream());
+            } else {
+                bodyDigest = FileDigest.copy(new ByteArrayInputStream(body()), OutputStream.nullOutputStream());
+            }
+        }
+        return bodyDigest;
+    }
+
+    public <T> T as(Class<T> tClass) {
+        return cached("#" + tClass.getName(), () -> bind(Json.MAPPER.constructType(tClass)));
+    }
+
+    public <T> T as(TypeRef<T> typeRef) {
+        return cached("#" + typeRef.getType().getTypeName(), () -> bind(javaType(typeRef.getType())));
+    }
+
+    public <T> T get(String path, Class<T> tClass) {
+        return cached(path + '#' + tClass.getName(), () -> {
+            JsonNode node = Json.navigate(tree(), path);
+            return node != null ? convert(node, Json.MAPPER.constructType(tClass)) : json().getObject(path, tClass);
+        });
+    }
+
+    public <T> T get(String path, TypeRef<T> typeRef) {
+        return cached(path + '#' + typeRef.getType().getTypeName(), () -> {
+            JsonNode node = Json.navigate(tree(), path);
+            return node != null ? convert(node, javaType(typeRef.getType())) : json().getObject(path, typeRef);
+        });
+    }
+
+    public <T> List<T> getList(String path, Class<T> tClass) {
+        JavaType listType = Json.MAPPER.getTypeFactory().constructCollectionType(List.class, tClass);
+        return cached(path + "#List<" + tClass.getName() + '>', () -> {
+            if (path.isEmpty() && tree == null) {
+                return bind(listType);
+            }
+            JsonNode node = Json.navigate(tree(), path);
+            return node != null ? convert(node, listType) : json().getList(path, tClass);
+        });
+    }
+
+    public String getString(String path) {
+        return cached(path + '#' + String.class.getName(), () -> {
+            JsonNode node = Json.navigate(tree(), path);
+            if (node == null) {
+                return json().getString(path);
+            }
+            if (node.isMissingNode() || node.isNull()) {
+                return null;
+            }
+            return node.isValueNode() ? node.asText() : node.toString();
+        });
+    }
+
+    /**
+     * Все тело сразу в тип: если дерево еще не разобрано, байты связываются напрямую, без дерева
+     */
+    @SneakyThrows
+    private <T> T bind(JavaType type) {
+        if (tree != null) {
+            return convert(tree, type);
+        }
+        byte[] body = body();
+        return body.length == 0 ? null : Json.MAPPER.readValue(body, type);
+    }
+
+    @SneakyThrows
+    private static <T> T convert(JsonNode node, JavaType type) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return Json.MAPPER.treeToValue(node, type);
+    }
+
+    private static JavaType javaType(Type type) {
+        return Json.MAPPER.getTypeFactory().constructType(type);
+    }
+
+    private void requireBody() {
+        if (bodyStreamed) {
+            throw new IllegalStateException("Бинарное тело ответа уже прочитано потоком в bodyDigest(), "
+                    + "текстовые проверки этого ответа недоступны");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader) {
+        if (typedCache.containsKey(key)) {
+            return (T) typedCache.get(key);
+        }
+        T value = loader.get();
+        typedCache.put(key, value);
+        return value;
+    }
+}
@@ -0,0 +1,30 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.JsonArrayStream;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ArraySizeCondition - число элементов массива в диапазоне [min, max].
+ * Элементы не связываются, проход останавливается, как только результат известен:
+ * на min-ом элементе без верхней границы или на max + 1-ом с ней.
+ */
+@RequiredArgsConstructor
+public class ArraySizeCondition implements Condition {
+    private final String arrayPath;
+    private final long min;
+    private final long max;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        boolean unbounded = max == Long.MAX_VALUE;
+        String elements = arrayPath.isEmpty() || arrayPath.endsWith("[]") ? arrayPath : arrayPath + "[]";
+        long[] seen = new long[1];
+        long count = JsonArrayStream.scan(response, elements, value -> ++seen[0] < min || !unbounded && seen[0] <= max);
+        if (count < min || count > max) {
+            throw new AssertionError("Размер массива '" + arrayPath + "' " + count
+                    + (unbounded ? ", ожидалось не меньше " + min : ", ожидалось от " + min + " до " + max));
+        }
+    }
+}
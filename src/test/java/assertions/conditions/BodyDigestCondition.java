@@ -0,0 +1,16 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+@RequiredArgsConstructor
+public class BodyDigestCondition implements Condition {
+    private final String expectedSha256;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        Assertions.assertEquals(expectedSha256, response.bodyDigest().getSha256(), "sha-256 тела ответа");
+    }
+}
@@ -0,0 +1,16 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+@RequiredArgsConstructor
+public class BodySizeCondition implements Condition {
+    private final long expectedSize;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        Assertions.assertEquals(expectedSize, response.bodyDigest().getLength(), "размер тела ответа");
+    }
+}
@@ -0,0 +1,27 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CompositeCondition - все условия проверяются по одному снимку ответа,
+ * упавшие собираются вместе и сообщаются одной ошибкой (Assertions.assertAll)
+ */
+public class CompositeCondition implements Condition {
+    private final List<Condition> conditions;
+
+    public CompositeCondition(Condition... conditions) {
+        this.conditions = Arrays.asList(conditions);
+    }
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        Assertions.assertAll("Проверки ответа", conditions.stream()
+                .map(condition -> (Executable) () -> condition.check(response)));
+    }
+}
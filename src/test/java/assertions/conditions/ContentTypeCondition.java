@@ -0,0 +1,24 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Locale;
+
+/**
+ * ContentTypeCondition - сравнивает тип без параметров (charset и т.п.),
+ * ожидаемое значение может быть префиксом: "image/" подходит для image/jpeg
+ */
+@RequiredArgsConstructor
+public class ContentTypeCondition implements Condition {
+    private final String expectedContentType;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        String actual = String.valueOf(response.response().getContentType()).toLowerCase(Locale.ROOT);
+        Assertions.assertTrue(actual.startsWith(expectedContentType.toLowerCase(Locale.ROOT)),
+                "Content-Type " + actual + " не соответствует " + expectedContentType);
+    }
+}
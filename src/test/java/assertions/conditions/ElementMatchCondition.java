@@ -0,0 +1,44 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.JsonArrayStream;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Predicate;
+
+/**
+ * ElementMatchCondition - все (all = true) или хотя бы одно значение поля элементов массива
+ * удовлетворяет предикату. Предикат получает Long, Double, String, Boolean или null.
+ * Проход останавливается, как только результат известен.
+ */
+@RequiredArgsConstructor
+public class ElementMatchCondition implements Condition {
+    private final String path;
+    private final Predicate<Object> predicate;
+    private final boolean all;
+    private final String description;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        boolean[] decided = new boolean[1];
+        Object[] witness = new Object[1];
+        long count = JsonArrayStream.scan(response, path, value -> {
+            Object boxed = value.toObject();
+            if (predicate.test(boxed) != all) {
+                decided[0] = true;
+                witness[0] = boxed;
+                return false;
+            }
+            return true;
+        });
+        if (all && decided[0]) {
+            throw new AssertionError("Элемент " + (count - 1) + " по пути '" + path + "' со значением '"
+                    + witness[0] + "' не удовлетворяет условию: " + description);
+        }
+        if (!all && !decided[0]) {
+            throw new AssertionError("Ни один из " + count + " элементов по пути '" + path
+                    + "' не удовлетворяет условию: " + description);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import metrics.EndpointStats;
+import metrics.PathNormalizer;
+import metrics.SuiteLatency;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Optional;
+
+/**
+ * LatencyPercentileCondition - перцентиль времени ответа эндпоинта по всем его вызовам в прогоне
+ * (данные TimingFilter, текущий ответ уже в них учтен).
+ * Перцентиль считается по всем вызовам, что есть на момент проверки: на малой выборке он близок
+ * к максимуму, поэтому бюджет задается с запасом. Без замеров (TimingFilter не установлен) проверка падает.
+ */
+@RequiredArgsConstructor
+public class LatencyPercentileCondition implements Condition {
+    private final String method;
+    private final String path;
+    private final double percentile;
+    private final long maxMillis;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        String endpoint = PathNormalizer.endpoint(method, path);
+        Optional<EndpointStats> stats = SuiteLatency.registry().get(endpoint);
+        Assertions.assertTrue(stats.isPresent(), "Нет замеров для " + endpoint + ", TimingFilter не установлен");
+
+        Histogram histogram = stats.get().histogramCopy();
+        Assertions.assertTrue(histogram.getTotalCount() > 0, "Нет замеров для " + endpoint);
+        double actualMillis = histogram.getValueAtPercentile(percentile) / 1000.0;
+        Assertions.assertTrue(actualMillis <= maxMillis,
+                "p" + percentile + " для " + endpoint + " = " + actualMillis + " мс по "
+                        + histogram.getTotalCount() + " вызовам, допустимо " + maxMillis + " мс");
+    }
+}
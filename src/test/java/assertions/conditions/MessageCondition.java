@@ -1,25 +1,23 @@
 package assertions.conditions;
 
 import assertions.Condition;
-import io.restassured.response.ValidatableResponse;
+import assertions.ResponseSnapshot;
 import lombok.RequiredArgsConstructor;
 import models.swager.Info;
 import org.junit.jupiter.api.Assertions;
 
-import static org.hamcrest.Matchers.equalTo;
-
 @RequiredArgsConstructor
 public class MessageCondition implements Condition {
 
     private final String expectedMessage;
 
     @Override
-    public void check(ValidatableResponse response) {
+    public void check(ResponseSnapshot response) {
         //Вариант №1 реализации
-        Info info = response.extract().jsonPath().getObject("info", Info.class);
+        Info info = response.get("info", Info.class);
         Assertions.assertEquals(expectedMessage, info.getMessage());
 
         //Вариант №2
-        //response.body("info.message", equalTo(expectedMessage));
+        //response.validatable().body("info.message", equalTo(expectedMessage));
     }
 }
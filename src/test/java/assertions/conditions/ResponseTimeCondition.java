@@ -0,0 +1,21 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * ResponseTimeCondition - SLA одного вызова по времени, измеренному RestAssured.
+ */
+@RequiredArgsConstructor
+public class ResponseTimeCondition implements Condition {
+    private final long maxMillis;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        long actual = response.response().getTime();
+        Assertions.assertTrue(actual <= maxMillis,
+                "Время ответа " + actual + " мс больше допустимых " + maxMillis + " мс");
+    }
+}
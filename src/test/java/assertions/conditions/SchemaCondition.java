@@ -0,0 +1,31 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.ResponseSnapshot;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SchemaCondition - тело ответа соответствует json-схеме.
+ * Проверяется уже разобранное дерево ResponseSnapshot, тело повторно не парсится.
+ */
+@RequiredArgsConstructor
+public class SchemaCondition implements Condition {
+    private final JsonSchema schema;
+    private final String name;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        Set<ValidationMessage> errors = schema.validate(response.tree());
+        if (!errors.isEmpty()) {
+            throw new AssertionError("Ответ не соответствует схеме " + name + ":\n" + errors.stream()
+                    .map(ValidationMessage::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.JsonArrayStream;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SortedCondition - значения поля элементов массива идут по возрастанию или убыванию.
+ * Хранится только копия предыдущего значения, проход останавливается на первом нарушении.
+ * Пустое значение (null или нет поля) - нарушение: у такого элемента нет места в порядке.
+ */
+@RequiredArgsConstructor
+public class SortedCondition implements Condition {
+    private final String path;
+    private final boolean descending;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        JsonArrayStream.Value previous = new JsonArrayStream.Value();
+        boolean[] started = new boolean[1];
+        String[] failure = new String[1];
+        long count = JsonArrayStream.scan(response, path, value -> {
+            if (value.isAbsent()) {
+                failure[0] = "без значения: " + value;
+                return false;
+            }
+            if (started[0]) {
+                int order = previous.compareTo(value);
+                if (descending ? order < 0 : order > 0) {
+                    failure[0] = "со значением " + value + " нарушает порядок после " + previous;
+                    return false;
+                }
+            }
+            previous.assign(value);
+            started[0] = true;
+            return true;
+        });
+        if (failure[0] != null) {
+            throw new AssertionError("Массив не отсортирован по '" + path + "' " + (descending ? "по убыванию" : "по возрастанию")
+                    + ": элемент " + (count - 1) + " " + failure[0]);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package assertions.conditions;
 
 import assertions.Condition;
-import io.restassured.response.ValidatableResponse;
+import assertions.ResponseSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 
@@ -10,12 +10,12 @@ public class StatusCodeCondition implements Condition {
     private final Integer statusCode;
 
     @Override
-    public void check(ValidatableResponse response) {
+    public void check(ResponseSnapshot response) {
         //Вариант №1 реализации
-        int actualStatusCode = response.extract().statusCode();
+        int actualStatusCode = response.statusCode();
         Assertions.assertEquals(statusCode, actualStatusCode);
 
         //Вариант №2
-        //response.assertThat().statusCode(statusCode);
+        //response.validatable().assertThat().statusCode(statusCode);
     }
 }
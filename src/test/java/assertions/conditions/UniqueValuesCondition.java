@@ -0,0 +1,59 @@
+package assertions.conditions;
+
+import assertions.Condition;
+import assertions.JsonArrayStream;
+import assertions.ResponseSnapshot;
+import lombok.RequiredArgsConstructor;
+import utils.LongHashSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * UniqueValuesCondition - значения поля элементов массива не повторяются.
+ * Целые хранятся в LongHashSet без упаковки, дробные - там же по битам double, строки - как есть,
+ * без нормализации (ведущие нули и форматирование учитываются).
+ * Пустое значение (null или нет поля) - ошибка. Проход останавливается на первом нарушении.
+ */
+@RequiredArgsConstructor
+public class UniqueValuesCondition implements Condition {
+    private final String path;
+
+    @Override
+    public void check(ResponseSnapshot response) {
+        LongHashSet longs = new LongHashSet();
+        LongHashSet doubles = new LongHashSet();
+        Set<String> strings = new HashSet<>();
+        boolean[] booleans = new boolean[2];
+        String[] failure = new String[1];
+        long count = JsonArrayStream.scan(response, path, value -> {
+            boolean unique;
+            switch (value.kind()) {
+                case LONG:
+                    unique = longs.add(value.longValue());
+                    break;
+                case DOUBLE:
+                    unique = doubles.add(Double.doubleToLongBits(value.doubleValue()));
+                    break;
+                case STRING:
+                    unique = strings.add(value.text());
+                    break;
+                case BOOLEAN:
+                    int index = value.booleanValue() ? 1 : 0;
+                    unique = !booleans[index];
+                    booleans[index] = true;
+                    break;
+                default:
+                    failure[0] = "без значения: " + value;
+                    return false;
+            }
+            if (!unique) {
+                failure[0] = "со значением '" + value + "' повторяет предыдущий";
+            }
+            return unique;
+        });
+        if (failure[0] != null) {
+            throw new AssertionError("Элемент " + (count - 1) + " по пути '" + path + "' " + failure[0]);
+        }
+    }
+}
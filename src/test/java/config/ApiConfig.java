@@ -0,0 +1,64 @@
+package config;
+
+import listener.LoggingMode;
+import org.aeonbits.owner.Config;
+
+/**
+ * ApiConfig - настройки окружения: адреса api, таймауты, размеры пулов, режим логирования и SLA-проверки.
+ * Приоритет источников: системные свойства, переменные окружения,
+ * профиль src/test/resources/profiles/${profile}.properties, значения по умолчанию.
+ * Адрес "stub" (или "stub/<путь>") означает встроенную заглушку StubServer.
+ */
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({
+        "system:properties",
+        "system:env",
+        "classpath:profiles/${profile}.properties"
+})
+public interface ApiConfig extends Config {
+    String STUB = "stub";
+
+    @Key("swagger.uri")
+    @DefaultValue("http://85.192.34.140:8080/")
+    String swaggerUri();
+
+    @Key("fakestore.uri")
+    @DefaultValue("https://fakestoreapi.com")
+    String fakeStoreUri();
+
+    @Key("fakestore.in.uri")
+    @DefaultValue("https://fakestoreapi.in")
+    String fakeStoreInUri();
+
+    @Key("http.connectTimeoutMs")
+    @DefaultValue("10000")
+    int connectTimeoutMs();
+
+    @Key("http.socketTimeoutMs")
+    @DefaultValue("30000")
+    int socketTimeoutMs();
+
+    @Key("http.pool.maxTotal")
+    @DefaultValue("200")
+    int poolMaxTotal();
+
+    @Key("http.pool.maxPerRoute")
+    @DefaultValue("50")
+    int poolMaxPerRoute();
+
+    @Key("users.provisioner.threads")
+    @DefaultValue("8")
+    int provisionerThreads();
+
+    @Key("attachments.threads")
+    @DefaultValue("2")
+    int attachmentThreads();
+
+    @Key("attachments.queueSize")
+    @DefaultValue("256")
+    int attachmentQueueSize();
+
+    @Key("logging.mode")
+    @DefaultValue("ON_FAILURE")
+    LoggingMode loggingMode();
+}
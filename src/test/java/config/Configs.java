@@ -0,0 +1,28 @@
+package config;
+
+import org.aeonbits.owner.ConfigFactory;
+
+/**
+ * Configs - конфигурация, загруженная один раз на JVM.
+ * Профиль выбирается свойством -Dprofile (./gradlew test -Pprofile=stub), по умолчанию remote.
+ */
+public final class Configs {
+    public static final String PROFILE_PROPERTY = "profile";
+    public static final String DEFAULT_PROFILE = "remote";
+
+    private Configs() {
+    }
+
+    public static ApiConfig api() {
+        return InitConfig.api;
+    }
+
+    private static class InitConfig {
+        private static final ApiConfig api;
+
+        static {
+            ConfigFactory.setProperty(PROFILE_PROPERTY, System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE));
+            api = ConfigFactory.create(ApiConfig.class);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package listener;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * AsyncAllureFilter - аналог AllureRestAssured, который не рендерит шаблоны в потоке запроса.
+ * В потоке теста снимается HttpExchange и резервируется место под вложение,
+ * рендеринг FreeMarker и запись файла выполняются в AttachmentPipeline.
+ */
+public class AsyncAllureFilter implements OrderedFilter {
+    private static final String HTML_TYPE = "text/html";
+    private static final String HTML_EXTENSION = ".html";
+
+    private FreemarkerAttachmentRenderer requestRenderer = new FreemarkerAttachmentRenderer("http-request.ftl");
+    private FreemarkerAttachmentRenderer responseRenderer = new FreemarkerAttachmentRenderer("http-response.ftl");
+    private AttachmentPolicy policy = AttachmentPolicy.defaults();
+
+    public AsyncAllureFilter setRequestTemplate(String templatePath) {
+        this.requestRenderer = new FreemarkerAttachmentRenderer(templatePath);
+        return this;
+    }
+
+    public AsyncAllureFilter setResponseTemplate(String templatePath) {
+        this.responseRenderer = new FreemarkerAttachmentRenderer(templatePath);
+        return this;
+    }
+
+    public AsyncAllureFilter setAttachmentPolicy(AttachmentPolicy policy) {
+        this.policy = policy;
+        return this;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext filterContext) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        boolean attach = lifecycle.getCurrentTestCaseOrStep().isPresent();
+
+        if (attach) {
+            HttpExchange request = HttpExchange.builder()
+                    .attachmentName("Request")
+                    .url(requestSpec.getURI())
+                    .method(requestSpec.getMethod())
+                    .contentType(requestSpec.getContentType())
+                    .headers(toMap(requestSpec.getHeaders()))
+                    .cookies(toMap(requestSpec.getCookies()))
+                    .body(requestBody(lifecycle, requestSpec.getContentType(), requestSpec.getBody()))
+                    .build();
+            schedule(lifecycle, request.getAttachmentName(), () -> toRequestAttachment(request), requestRenderer);
+        }
+
+        Response response = filterContext.next(requestSpec, responseSpec);
+
+        if (attach) {
+            HttpExchange exchange = HttpExchange.builder()
+                    .attachmentName(response.getStatusLine())
+                    .responseCode(response.getStatusCode())
+                    .contentType(response.getContentType())
+                    .headers(toMap(response.getHeaders()))
+                    .body(responseBody(lifecycle, response))
+                    .build();
+            schedule(lifecycle, exchange.getAttachmentName(), () -> toResponseAttachment(exchange), responseRenderer);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE - 1;
+    }
+
+    private void schedule(AllureLifecycle lifecycle, String name,
+                          Supplier<AttachmentData> data,
+                          FreemarkerAttachmentRenderer renderer) {
+        String source = lifecycle.prepareAttachment(name, HTML_TYPE, HTML_EXTENSION);
+        AttachmentPipeline.instance().submit(() -> {
+            String html = renderer.render(data.get()).getContent();
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    private static HttpRequestAttachment toRequestAttachment(HttpExchange request) {
+        HttpRequestAttachment.Builder builder = HttpRequestAttachment.Builder
+                .create(request.getAttachmentName(), request.getUrl())
+                .setMethod(request.getMethod())
+                .setHeaders(request.getHeaders())
+                .setCookies(request.getCookies());
+        if (request.getBody() != null) {
+            builder.setBody(prettify(request.getBody(), request.getContentType()));
+        }
+        return builder.build();
+    }
+
+    private static HttpResponseAttachment toResponseAttachment(HttpExchange response) {
+        return HttpResponseAttachment.Builder.create(response.getAttachmentName())
+                .setResponseCode(response.getResponseCode())
+                .setHeaders(response.getHeaders())
+                .setBody(prettify(response.getBody(), response.getContentType()))
+                .build();
+    }
+
+    private static String prettify(String body, String contentType) {
+        if (contentType == null || body == null || body.isEmpty()) {
+            return body;
+        }
+        try {
+            Parser parser = Parser.fromContentType(contentType);
+            return parser == null ? body : new Prettifier().prettify(body, parser);
+        } catch (RuntimeException e) {
+            return body;
+        }
+    }
+
+    private String requestBody(AllureLifecycle lifecycle, String contentType, Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            byte[] bytes = (byte[]) body;
+            if (policy.isBinary(contentType)) {
+                return binaryBody(lifecycle, "Request body", contentType, bytes);
+            }
+            return textBody(lifecycle, "Request body", contentType, new String(bytes, StandardCharsets.UTF_8));
+        }
+        return textBody(lifecycle, "Request body", contentType, body.toString());
+    }
+
+    /**
+     * Бинарное тело ответа фильтр не читает сам: поток остается тесту, а копия
+     * снимается по ходу чтения (TeeBodyStream) и уходит в BodyStore, когда тест дочитал тело.
+     * Тело больше maxBinaryBytes во вложение не попадает, его длину и sha-256 пишет FileService.
+     */
+    private String responseBody(AllureLifecycle lifecycle, Response response) {
+        String contentType = response.getContentType();
+        if (policy.isBinary(contentType)) {
+            return teeBinaryBody(lifecycle, "Response body", contentType, response);
+        }
+        return textBody(lifecycle, "Response body", contentType, response.getBody().asString());
+    }
+
+    private String teeBinaryBody(AllureLifecycle lifecycle, String name, String contentType, Response response) {
+        if (!(response instanceof RestAssuredResponseImpl) || !((RestAssuredResponseImpl) response).isInputStream()) {
+            return binaryBody(lifecycle, name, contentType, response.asByteArray());
+        }
+        String testCase = lifecycle.getCurrentTestCase().orElse(null);
+        if (testCase == null) {
+            return "[" + contentType + ", тело не сохраняется вне теста]";
+        }
+        RestAssuredResponseImpl streamed = (RestAssuredResponseImpl) response;
+        streamed.setContent(new TeeBodyStream(streamed.asInputStream(), policy.getMaxBinaryBytes(),
+                body -> BodyStore.attach(lifecycle, testCase, name, contentType, body)));
+        return "[" + contentType + ", файл во вложении '" + name + "', если тело дочитано и не больше "
+                + policy.getMaxBinaryBytes() + " байт]";
+    }
+
+    private String binaryBody(AllureLifecycle lifecycle, String name, String contentType, byte[] bytes) {
+        if (bytes.length > policy.getMaxBinaryBytes()) {
+            return "[" + contentType + ", " + bytes.length + " байт, больше лимита вложений "
+                    + policy.getMaxBinaryBytes() + " байт]";
+        }
+        String sha256 = BodyStore.attach(lifecycle, name, contentType, bytes);
+        return "[" + contentType + ", " + bytes.length + " байт, sha-256 " + sha256
+                + ", файл во вложении '" + name + "']";
+    }
+
+    private String textBody(AllureLifecycle lifecycle, String name, String contentType, String body) {
+        if (!policy.shouldTruncate(body)) {
+            return body;
+        }
+        String note = "";
+        if (policy.isStoreTruncatedBodies()) {
+            String sha256 = BodyStore.attach(lifecycle, name, contentType, body);
+            note = ", полное тело во вложении '" + name + "' (sha-256 " + sha256 + ")";
+        }
+        return policy.truncate(body, note);
+    }
+
+    private static Map<String, String> toMap(Headers headers) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Header header : headers) {
+            result.merge(header.getName(), header.getValue(), (a, b) -> a + "; " + b);
+        }
+        return result;
+    }
+
+    private static Map<String, String> toMap(Cookies cookies) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Cookie cookie : cookies) {
+            result.merge(cookie.getName(), cookie.getValue(), (a, b) -> a + "; " + b);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package listener;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * AttachmentFlushExtension - дожидается записи allure-вложений
+ * после каждого теста и класса, чтобы отчет был полным.
+ * Подключается автоматически через META-INF/services.
+ */
+public class AttachmentFlushExtension implements AfterEachCallback, AfterAllCallback {
+    @Override
+    public void afterEach(ExtensionContext context) {
+        AttachmentPipeline.instance().flush();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        AttachmentPipeline.instance().flush();
+    }
+}
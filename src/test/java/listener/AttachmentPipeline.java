@@ -0,0 +1,86 @@
+package listener;
+
+import config.ApiConfig;
+import config.Configs;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AttachmentPipeline - ограниченный фоновый пул для рендеринга и записи allure-вложений.
+ * При переполнении очереди задача выполняется в вызывающем потоке,
+ * flush() дожидается записи всех отправленных вложений.
+ * Число потоков и размер очереди задаются в ApiConfig.
+ */
+public final class AttachmentPipeline {
+    private static final long FLUSH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private final ThreadPoolExecutor executor;
+    private final Object lock = new Object();
+    private int pending;
+
+    private AttachmentPipeline() {
+        ApiConfig settings = Configs.api();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(settings.attachmentThreads(), settings.attachmentThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.attachmentQueueSize()),
+                task -> {
+                    Thread thread = new Thread(task, "allure-attachments-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "allure-attachments-shutdown"));
+    }
+
+    public static AttachmentPipeline instance() {
+        return InitPipeline.pipeline;
+    }
+
+    public void submit(Runnable task) {
+        synchronized (lock) {
+            pending++;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                synchronized (lock) {
+                    if (--pending == 0) {
+                        lock.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    public void flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        synchronized (lock) {
+            while (pending > 0) {
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) {
+                    System.err.println("Не дождались записи allure-вложений: " + pending);
+                    return;
+                }
+                try {
+                    lock.wait(left);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private static class InitPipeline {
+        private static final AttachmentPipeline pipeline = new AttachmentPipeline();
+    }
+}
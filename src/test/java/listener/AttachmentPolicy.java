@@ -0,0 +1,59 @@
+package listener;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AttachmentPolicy - правила, по которым тело попадает в allure-вложение:
+ * длинный текст обрезается до начала и конца, бинарные типы сохраняются файлом как есть,
+ * если не больше maxBinaryBytes (обрезанная картинка в отчете бесполезна).
+ * Полные тела (бинарные и обрезанные) пишутся на диск один раз по sha-256, см. BodyStore.
+ */
+@Value
+@Builder
+public class AttachmentPolicy {
+    @Builder.Default
+    int maxBodyChars = 64 * 1024;
+    @Builder.Default
+    int headChars = 48 * 1024;
+    @Builder.Default
+    int tailChars = 8 * 1024;
+    @Builder.Default
+    boolean storeTruncatedBodies = true;
+    @Builder.Default
+    int maxBinaryBytes = 8 * 1024 * 1024;
+    @Builder.Default
+    List<String> binaryContentTypes = Arrays.asList("image/", "audio/", "video/", "font/",
+            "application/octet-stream", "application/pdf", "application/zip", "application/gzip");
+
+    public static AttachmentPolicy defaults() {
+        return AttachmentPolicy.builder().build();
+    }
+
+    public boolean isBinary(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return binaryContentTypes.stream().anyMatch(type::startsWith);
+    }
+
+    public boolean shouldTruncate(String body) {
+        return body != null && body.length() > maxBodyChars;
+    }
+
+    public String truncate(String body, String note) {
+        if (!shouldTruncate(body)) {
+            return body;
+        }
+        int head = Math.min(headChars, body.length());
+        int tail = Math.min(tailChars, body.length() - head);
+        return body.substring(0, head)
+                + "\n\n... обрезано " + (body.length() - head - tail) + " символов" + note + " ...\n\n"
+                + body.substring(body.length() - tail);
+    }
+}
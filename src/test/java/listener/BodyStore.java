@@ -0,0 +1,105 @@
+package listener;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BodyStore - хранение тел ответов в allure-results с дедупликацией по sha-256.
+ * Одинаковое тело записывается на диск один раз за JVM,
+ * каждый тест получает ссылку на тот же файл.
+ */
+public final class BodyStore {
+    private static final Set<String> WRITTEN = ConcurrentHashMap.newKeySet();
+
+    private BodyStore() {
+    }
+
+    /**
+     * Привязывает тело к текущему тесту и возвращает его sha-256.
+     * Должен вызываться в потоке теста, запись файла уходит в AttachmentPipeline.
+     */
+    public static String attach(AllureLifecycle lifecycle, String name, String contentType, byte[] body) {
+        String sha256 = sha256(body);
+        String source = source(sha256, contentType);
+        lifecycle.updateTestCase(result -> result.getAttachments().add(attachment(name, contentType, source)));
+        write(lifecycle, source, body);
+        return sha256;
+    }
+
+    /**
+     * То же для теста с известным uuid: тело может дочитываться уже после того,
+     * как фильтр вернул ответ, и не обязательно в потоке теста
+     */
+    public static String attach(AllureLifecycle lifecycle, String testCaseUuid,
+                                String name, String contentType, byte[] body) {
+        String sha256 = sha256(body);
+        String source = source(sha256, contentType);
+        lifecycle.updateTestCase(testCaseUuid, result -> result.getAttachments().add(attachment(name, contentType, source)));
+        write(lifecycle, source, body);
+        return sha256;
+    }
+
+    public static String attach(AllureLifecycle lifecycle, String name, String contentType, String body) {
+        return attach(lifecycle, name, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String source(String sha256, String contentType) {
+        return sha256 + "-attachment" + extension(contentType);
+    }
+
+    private static Attachment attachment(String name, String contentType, String source) {
+        return new Attachment()
+                .setName(name)
+                .setType(mediaType(contentType))
+                .setSource(source);
+    }
+
+    private static void write(AllureLifecycle lifecycle, String source, byte[] body) {
+        if (WRITTEN.add(source)) {
+            AttachmentPipeline.instance().submit(() ->
+                    lifecycle.writeAttachment(source, new ByteArrayInputStream(body)));
+        }
+    }
+
+    private static String mediaType(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return "application/octet-stream";
+        }
+        int params = contentType.indexOf(';');
+        return (params < 0 ? contentType : contentType.substring(0, params)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String extension(String contentType) {
+        String type = mediaType(contentType);
+        if (type.equals("application/octet-stream")) {
+            return ".bin";
+        }
+        String subtype = type.substring(type.indexOf('/') + 1);
+        int suffix = subtype.indexOf('+');
+        if (suffix >= 0) {
+            subtype = subtype.substring(suffix + 1);
+        }
+        return "." + (subtype.equals("plain") ? "txt" : subtype);
+    }
+}
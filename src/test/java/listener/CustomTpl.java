@@ -1,10 +1,10 @@
 package listener;
 
-import io.qameta.allure.restassured.AllureRestAssured;
-
 public class CustomTpl {
 
-    private static final AllureRestAssured FILTER = new AllureRestAssured();
+    private static final AsyncAllureFilter FILTER = new AsyncAllureFilter()
+            .setRequestTemplate("request.ftl")
+            .setResponseTemplate("response.ftl");
 
     private CustomTpl() {
     }
@@ -13,9 +13,7 @@ public class CustomTpl {
         return InitLogFilter.logFilter;
     }
 
-    public AllureRestAssured withCustomTemplates() {
-        FILTER.setRequestTemplate("request.ftl");
-        FILTER.setResponseTemplate("response.ftl");
+    public AsyncAllureFilter withCustomTemplates() {
         return FILTER;
     }
 
@@ -0,0 +1,42 @@
+package listener;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.Optional;
+
+/**
+ * ExchangeLogExtension - для режима ON_FAILURE: перед тестом очищает буфер обменов потока,
+ * после падения печатает накопленные обмены, после успешного теста выбрасывает их.
+ * Подключается автоматически через META-INF/services.
+ */
+public class ExchangeLogExtension implements BeforeEachCallback, TestWatcher {
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ExchangeLoggingFilter.discard();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        String exchanges = ExchangeLoggingFilter.drain();
+        if (!exchanges.isEmpty()) {
+            System.out.println("HTTP-обмены упавшего теста " + context.getDisplayName() + ":\n" + exchanges);
+        }
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        ExchangeLoggingFilter.discard();
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        ExchangeLoggingFilter.discard();
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        ExchangeLoggingFilter.discard();
+    }
+}
@@ -0,0 +1,109 @@
+package listener;
+
+import config.Configs;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * ExchangeLoggingFilter - консольный лог http-обменов вместо RequestLoggingFilter/ResponseLoggingFilter.
+ * Режим берется из ApiConfig (logging.mode). В режиме ON_FAILURE поток хранит только ссылки
+ * на последние MAX_BUFFERED_EXCHANGES обменов, текст собирается в drain(), то есть только для упавшего теста.
+ * Длинные тела обрезаются, бинарные не печатаются.
+ */
+public class ExchangeLoggingFilter implements OrderedFilter {
+    private static final int MAX_BUFFERED_EXCHANGES = 100;
+    private static final ThreadLocal<Deque<Supplier<String>>> BUFFER = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final LoggingMode mode;
+    private final AttachmentPolicy policy = AttachmentPolicy.defaults();
+
+    public ExchangeLoggingFilter(LoggingMode mode) {
+        this.mode = mode;
+    }
+
+    public static ExchangeLoggingFilter fromConfig() {
+        return new ExchangeLoggingFilter(Configs.api().loggingMode());
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE - 2;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (mode == LoggingMode.OFF) {
+            return response;
+        }
+        if (mode == LoggingMode.ON_FAILURE) {
+            buffer(() -> format(requestSpec, response, true));
+        } else {
+            System.out.print(format(requestSpec, response, mode != LoggingMode.HEADERS));
+        }
+        return response;
+    }
+
+    /**
+     * Накопленные потоком обмены в текстовом виде, буфер очищается
+     */
+    public static String drain() {
+        Deque<Supplier<String>> buffer = BUFFER.get();
+        StringBuilder text = new StringBuilder();
+        for (Supplier<String> exchange : buffer) {
+            text.append(exchange.get());
+        }
+        buffer.clear();
+        return text.toString();
+    }
+
+    public static void discard() {
+        BUFFER.get().clear();
+    }
+
+    private static void buffer(Supplier<String> exchange) {
+        Deque<Supplier<String>> buffer = BUFFER.get();
+        buffer.addLast(exchange);
+        if (buffer.size() > MAX_BUFFERED_EXCHANGES) {
+            buffer.removeFirst();
+        }
+    }
+
+    private String format(FilterableRequestSpecification request, Response response, boolean withBodies) {
+        StringBuilder text = new StringBuilder();
+        text.append("> ").append(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+        appendHeaders(text, "> ", request.getHeaders());
+        if (withBodies && request.getBody() != null) {
+            text.append(policy.truncate(String.valueOf((Object) request.getBody()), "")).append('\n');
+        }
+        text.append("< ").append(response.getStatusLine()).append(" (").append(response.getTime()).append(" ms)\n");
+        appendHeaders(text, "< ", response.getHeaders());
+        if (withBodies) {
+            String contentType = response.getContentType();
+            if (policy.isBinary(contentType)) {
+                text.append("<binary body: ").append(contentType).append(">\n");
+            } else {
+                text.append(policy.truncate(response.asString(), "")).append('\n');
+            }
+        }
+        return text.append('\n').toString();
+    }
+
+    private static void appendHeaders(StringBuilder text, String prefix, Headers headers) {
+        for (Header header : headers) {
+            String value = "Authorization".equalsIgnoreCase(header.getName()) ? "[скрыт]" : header.getValue();
+            text.append(prefix).append(header.getName()).append(": ").append(value).append('\n');
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package listener;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * FilterInstaller - ставит глобальные фильтры RestAssured один раз при открытии сессии JUnit.
+ * Список RestAssured.filters() не потокобезопасен, поэтому он меняется до старта тестов,
+ * а не в @BeforeAll классов, которые в параллельном режиме идут одновременно.
+ * Подключается через META-INF/services, в том числе при запуске из IDE.
+ */
+public class FilterInstaller implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        FilterRegistry.installDefaults();
+    }
+}
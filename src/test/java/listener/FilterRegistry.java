@@ -0,0 +1,82 @@
+package listener;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import metrics.SuiteLatency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FilterRegistry - единая точка регистрации глобальных фильтров RestAssured.
+ * Фильтр одного типа ставится один раз на JVM. Стандартный набор ставит FilterInstaller
+ * при открытии сессии JUnit, до запуска первого (возможно параллельного) теста.
+ * Фильтры, добавленные через installFor(), снимаются методом removeFor() того же класса;
+ * цепочка RestAssured общая, поэтому scoped-фильтры видят и тесты, идущие параллельно с этим классом.
+ */
+public final class FilterRegistry {
+
+    private static final Map<Class<? extends Filter>, Filter> ACTIVE = new LinkedHashMap<>();
+    private static final Map<Class<?>, List<Class<? extends Filter>>> SCOPED = new HashMap<>();
+
+    private FilterRegistry() {
+    }
+
+    /**
+     * Стандартный набор: замер латентности, консольный лог обменов в режиме из ApiConfig
+     * и allure с нашими шаблонами
+     */
+    public static void installDefaults() {
+        install(SuiteLatency.timingFilter(), ExchangeLoggingFilter.fromConfig(), CustomTpl.customLogFilter().withCustomTemplates());
+    }
+
+    public static synchronized void install(Filter... filters) {
+        List<Filter> added = new ArrayList<>();
+        for (Filter filter : filters) {
+            if (ACTIVE.putIfAbsent(filter.getClass(), filter) == null) {
+                added.add(filter);
+            }
+        }
+        if (!added.isEmpty()) {
+            RestAssured.filters(added);
+        }
+    }
+
+    public static synchronized void installFor(Class<?> owner, Filter... filters) {
+        List<Class<? extends Filter>> owned = SCOPED.computeIfAbsent(owner, key -> new ArrayList<>());
+        List<Filter> added = new ArrayList<>();
+        for (Filter filter : filters) {
+            if (ACTIVE.putIfAbsent(filter.getClass(), filter) == null) {
+                owned.add(filter.getClass());
+                added.add(filter);
+            }
+        }
+        if (!added.isEmpty()) {
+            RestAssured.filters(added);
+        }
+    }
+
+    public static synchronized void removeFor(Class<?> owner) {
+        List<Class<? extends Filter>> owned = SCOPED.remove(owner);
+        if (owned == null || owned.isEmpty()) {
+            return;
+        }
+        owned.forEach(ACTIVE::remove);
+        RestAssured.replaceFiltersWith(new ArrayList<>(ACTIVE.values()));
+    }
+
+    public static synchronized boolean isInstalled(Class<? extends Filter> type) {
+        return ACTIVE.containsKey(type);
+    }
+
+    /**
+     * Текущая цепочка фильтров RestAssured - для отладки и проверок
+     */
+    public static synchronized List<Filter> activeFilters() {
+        return Collections.unmodifiableList(new ArrayList<>(RestAssured.filters()));
+    }
+}
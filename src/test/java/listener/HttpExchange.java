@@ -0,0 +1,23 @@
+package listener;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * HttpExchange - неизменяемый снимок запроса или ответа,
+ * который передается в фоновый поток для рендеринга вложения
+ */
+@Value
+@Builder
+public class HttpExchange {
+    String attachmentName;
+    String url;
+    String method;
+    Integer responseCode;
+    String contentType;
+    Map<String, String> headers;
+    Map<String, String> cookies;
+    String body;
+}
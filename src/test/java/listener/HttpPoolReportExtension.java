@@ -0,0 +1,35 @@
+package listener;
+
+import metrics.AllureEnvironment;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import services.HttpClientPool;
+
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * HttpPoolReportExtension - в конце прогона пишет загрузку пула соединений строкой "http pool"
+ * в environment.properties allure-results и в лог.
+ * Подключается автоматически через META-INF/services.
+ */
+public class HttpPoolReportExtension implements BeforeAllCallback {
+    private static final Logger LOG = Logger.getLogger(HttpPoolReportExtension.class.getName());
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(HttpPoolReportExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(PoolReport.class, key -> new PoolReport(), PoolReport.class);
+    }
+
+    private static class PoolReport implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            String utilization = HttpClientPool.utilization();
+            LOG.info(() -> "Http pool: " + utilization);
+            AllureEnvironment.merge(Map.of("http pool", utilization));
+        }
+    }
+}
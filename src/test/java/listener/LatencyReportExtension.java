@@ -0,0 +1,28 @@
+package listener;
+
+import metrics.SuiteLatency;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * LatencyReportExtension - выгружает сводку латентности, когда JUnit закрывает корневой контекст (конец прогона).
+ * TimingFilter ставит FilterInstaller вместе с остальными глобальными фильтрами.
+ * Подключается автоматически через META-INF/services.
+ */
+public class LatencyReportExtension implements BeforeAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(LatencyReportExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(LatencyReport.class, key -> new LatencyReport(), LatencyReport.class);
+    }
+
+    private static class LatencyReport implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            SuiteLatency.writeReport();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package listener;
+
+/**
+ * LoggingMode - что ExchangeLoggingFilter пишет в консоль:
+ * OFF - ничего, ON_FAILURE - полный обмен только для упавших тестов,
+ * HEADERS - строки запроса/ответа и заголовки, FULL - то же с телами
+ */
+public enum LoggingMode {
+    OFF,
+    ON_FAILURE,
+    HEADERS,
+    FULL
+}
@@ -0,0 +1,42 @@
+package listener;
+
+import models.swager.FullUser;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import services.UserProvisioner;
+import services.UserService;
+import services.UserSession;
+
+/**
+ * RegisteredUserResolver - подставляет уже зарегистрированного пользователя:
+ * FullUser для @RegisteredUser, UserSession (пользователь + токен) для @AuthenticatedUser.
+ * Пользователи берутся из пула UserProvisioner, который дозаполняется в фоне вместе с токенами,
+ * поэтому регистрация и логин не попадают во время теста.
+ */
+public class RegisteredUserResolver implements ParameterResolver {
+    private static final int WARM_POOL_SIZE = 4;
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        return parameterContext.isAnnotated(RegisteredUser.class) || parameterContext.isAnnotated(AuthenticatedUser.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
+        Class<?> type = parameterContext.getParameter().getType();
+        UserProvisioner provisioner = UserProvisioner.instance();
+        if (parameterContext.isAnnotated(RegisteredUser.class) && FullUser.class.equals(type)) {
+            FullUser user = provisioner.take();
+            provisioner.refillAsync(WARM_POOL_SIZE);
+            return user;
+        }
+        if (parameterContext.isAnnotated(AuthenticatedUser.class) && UserSession.class.equals(type)) {
+            FullUser user = provisioner.take();
+            provisioner.refillAsync(WARM_POOL_SIZE);
+            return new UserSession(user, new UserService().getJwt(user));
+        }
+        throw new ParameterResolutionException("Зарегистрированный пользователь не подставляется в параметр типа " + type.getName());
+    }
+}
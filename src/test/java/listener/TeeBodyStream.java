@@ -0,0 +1,89 @@
+package listener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * TeeBodyStream - поток тела ответа, который по ходу чтения копирует байты в буфер не больше maxBytes.
+ * Когда читатель дошел до конца, копия отдается в onComplete. Тело больше лимита или закрытое
+ * недочитанным не отдается: буфер сбрасывается, чтобы не держать большие файлы в памяти.
+ */
+class TeeBodyStream extends FilterInputStream {
+    private final int maxBytes;
+    private final Consumer<byte[]> onComplete;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    private boolean finished;
+
+    TeeBodyStream(InputStream in, int maxBytes, Consumer<byte[]> onComplete) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b < 0) {
+            finish();
+        } else {
+            copy(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n < 0) {
+            finish();
+        } else {
+            copy(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // пропущенные байты в копию не попадают, целое тело уже не собрать
+        copy = null;
+        return super.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        copy = null;
+        finished = true;
+        super.close();
+    }
+
+    private void copy(byte[] b, int off, int len) {
+        if (copy == null) {
+            return;
+        }
+        if (copy.size() + len > maxBytes) {
+            copy = null;
+            return;
+        }
+        copy.write(b, off, len);
+    }
+
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (copy != null) {
+            byte[] body = copy.toByteArray();
+            copy = null;
+            onComplete.accept(body);
+        }
+    }
+}
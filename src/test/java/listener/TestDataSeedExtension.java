@@ -0,0 +1,31 @@
+package listener;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import utils.RandomTestData;
+import utils.TestSeeds;
+
+/**
+ * TestDataSeedExtension - перед каждым тестом задает seed генератора данных
+ * и записывает seed теста и прогона в allure-параметры (без влияния на historyId).
+ * Для упавшего теста печатает команду повторного запуска с тем же seed.
+ * Подключается автоматически через META-INF/services.
+ */
+public class TestDataSeedExtension implements BeforeEachCallback, TestWatcher {
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        long seed = TestSeeds.forTest(context.getUniqueId());
+        RandomTestData.reseed(seed);
+        Allure.parameter(TestSeeds.TEST_SEED_PROPERTY, seed, true);
+        Allure.parameter(TestSeeds.RUN_SEED_PROPERTY, TestSeeds.runSeed(), true);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        String test = context.getRequiredTestClass().getName() + "." + context.getRequiredTestMethod().getName();
+        System.out.printf("Повторить с теми же данными: ./gradlew test --tests '%s' -D%s=%d%n",
+                test, TestSeeds.RUN_SEED_PROPERTY, TestSeeds.runSeed());
+    }
+}
@@ -0,0 +1,29 @@
+package listener;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import services.UserProvisioner;
+
+/**
+ * UserCleanupExtension - включает учет создаваемых пользователей и удаляет оставшихся,
+ * когда JUnit закрывает корневой контекст (конец прогона).
+ * Подключается автоматически через META-INF/services.
+ */
+public class UserCleanupExtension implements BeforeAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(UserCleanupExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        UserProvisioner.enableTracking();
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(UserCleanup.class, key -> new UserCleanup(), UserCleanup.class);
+    }
+
+    private static class UserCleanup implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            UserProvisioner.cleanupAll();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.SneakyThrows;
+import lombok.Value;
+import metrics.LatencySummary;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+
+@Value
+public class LoadReport {
+    String scenario;
+    WorkloadModel model;
+    double elapsedSeconds;
+    long iterations;
+    long failedIterations;
+    List<LatencySummary> endpoints;
+
+    public double getIterationsPerSecond() {
+        return elapsedSeconds == 0 ? 0 : iterations / elapsedSeconds;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Сценарий %s (%s): %d итераций за %.1f с, %.1f итер/с, неуспешных %d%n",
+                scenario, model, iterations, elapsedSeconds, getIterationsPerSecond(), failedIterations);
+        out.printf("%-22s %8s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "rps", "errors%", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (LatencySummary summary : endpoints) {
+            out.printf("%-22s %8d %8.1f %8.2f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.getEndpoint(), summary.getCount(), summary.getCount() / elapsedSeconds,
+                    summary.getErrorRate() * 100, summary.getP50Ms(), summary.getP90Ms(),
+                    summary.getP99Ms(), summary.getMaxMs());
+        }
+    }
+
+    @SneakyThrows
+    public void writeTo(File file) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, this);
+    }
+}
@@ -0,0 +1,102 @@
+package load;
+
+import metrics.LatencyRegistry;
+import services.HttpClientPool;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadRunner - нагрузочный режим поверх тех же сервисов, что и функциональные тесты.
+ * Каждая итерация сценария выполняется в своем виртуальном потоке,
+ * время шагов пишется в LatencyRegistry, итог печатается и сохраняется в json.
+ * Запуск: ./gradlew loadTest -Dload.model=open -Dload.rate=50 -Dload.duration=60
+ */
+public class LoadRunner {
+    private final LoadSettings settings;
+    private final LatencyRegistry registry = new LatencyRegistry();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder failedIterations = new LongAdder();
+
+    public LoadRunner(LoadSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        Scenario scenario = Scenarios.byName(settings.getScenario(), settings.getBaseUri());
+
+        LoadReport report = new LoadRunner(settings).run(scenario);
+        report.print(System.out);
+        System.out.println("http pool: " + HttpClientPool.utilization());
+        report.writeTo(new File(settings.getReportFile()));
+    }
+
+    public LoadReport run(Scenario scenario) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (settings.getModel() == WorkloadModel.CLOSED) {
+                runClosed(scenario, executor, deadline);
+            } else {
+                runOpen(scenario, executor, start, deadline);
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new LoadReport(scenario.getName(), settings.getModel(), elapsedSeconds,
+                iterations.sum(), failedIterations.sum(), registry.summaries());
+    }
+
+    private void runClosed(Scenario scenario, ExecutorService executor, long deadline) {
+        List<Runnable> users = new ArrayList<>();
+        for (int i = 0; i < settings.getUsers(); i++) {
+            users.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    runIteration(scenario);
+                }
+            });
+        }
+        users.forEach(executor::submit);
+    }
+
+    private void runOpen(Scenario scenario, ExecutorService executor, long start, long deadline) {
+        long intervalNanos = (long) (1_000_000_000L / settings.getRatePerSecond());
+        long next = start;
+        while (next < deadline) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.submit(() -> runIteration(scenario));
+            next += intervalNanos;
+        }
+    }
+
+    private void runIteration(Scenario scenario) {
+        ScenarioContext context = new ScenarioContext();
+        boolean success = true;
+        for (Step step : scenario.getSteps()) {
+            long stepStart = System.nanoTime();
+            try {
+                step.getAction().run(context);
+                registry.record(step.getName(), System.nanoTime() - stepStart, true);
+            } catch (Throwable e) {
+                registry.record(step.getName(), System.nanoTime() - stepStart, false);
+                success = false;
+                break;
+            }
+        }
+        iterations.increment();
+        if (!success) {
+            failedIterations.increment();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package load;
+
+import config.Configs;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * LoadSettings - параметры прогона из системных свойств load.*:
+ * -Dload.scenario=userLifecycle -Dload.model=open -Dload.rate=50 -Dload.users=20 -Dload.duration=60
+ */
+@Value
+@Builder
+public class LoadSettings {
+    String baseUri;
+    String scenario;
+    WorkloadModel model;
+    int users;
+    double ratePerSecond;
+    int durationSeconds;
+    String reportFile;
+
+    public static LoadSettings fromSystemProperties() {
+        return LoadSettings.builder()
+                .baseUri(System.getProperty("load.baseUri", Configs.api().swaggerUri()))
+                .scenario(System.getProperty("load.scenario", "userLifecycle"))
+                .model(WorkloadModel.valueOf(System.getProperty("load.model", "closed").toUpperCase(Locale.ROOT)))
+                .users(Integer.getInteger("load.users", 10))
+                .ratePerSecond(Double.parseDouble(System.getProperty("load.rate", "10")))
+                .durationSeconds(Integer.getInteger("load.duration", 30))
+                .reportFile(System.getProperty("load.report", "build/load/report.json"))
+                .build();
+    }
+}
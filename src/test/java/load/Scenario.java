@@ -0,0 +1,35 @@
+package load;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Value
+public class Scenario {
+    String name;
+    List<Step> steps;
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public static class Builder {
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder step(String endpoint, Step.Action action) {
+            steps.add(new Step(endpoint, action));
+            return this;
+        }
+
+        public Scenario build() {
+            return new Scenario(name, Collections.unmodifiableList(new ArrayList<>(steps)));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package load;
+
+import lombok.Data;
+import models.swager.FullUser;
+
+/**
+ * ScenarioContext - состояние одной итерации сценария, шаги передают через него пользователя и токен
+ */
+@Data
+public class ScenarioContext {
+    private FullUser user;
+    private String jwt;
+}
@@ -0,0 +1,102 @@
+package load;
+
+import services.FileService;
+import services.UserService;
+
+import java.io.File;
+
+import static assertions.Conditions.hasMessage;
+import static assertions.Conditions.hasSameContentAs;
+import static assertions.Conditions.hasStatusCode;
+import static utils.RandomTestData.getAdminUser;
+import static utils.RandomTestData.getRandomUser;
+
+/**
+ * Scenarios - функциональные цепочки из сервисов, переиспользуемые как нагрузочные сценарии
+ */
+public final class Scenarios {
+    private static final File UPLOAD_FILE = new File("src/test/resources/threadqa.jpeg");
+
+    private Scenarios() {
+    }
+
+    public static Scenario byName(String name, String baseUri) {
+        switch (name) {
+            case "userLifecycle":
+                return userLifecycle(new UserService(baseUri));
+            case "adminRead":
+                return adminRead(new UserService(baseUri));
+            case "fileDownload":
+                return fileDownload(new FileService(baseUri));
+            case "fileRoundTrip":
+                return fileRoundTrip(new FileService(baseUri));
+            default:
+                throw new IllegalArgumentException("Неизвестный сценарий: " + name);
+        }
+    }
+
+    /**
+     * register -> auth -> getUserInfo -> updatePass -> deleteUser
+     */
+    public static Scenario userLifecycle(UserService userService) {
+        return Scenario.named("userLifecycle")
+                .step("POST /api/signup", ctx -> {
+                    ctx.setUser(getRandomUser());
+                    userService.register(ctx.getUser()).should(hasStatusCode(201));
+                })
+                .step("POST /api/login", ctx ->
+                        ctx.setJwt(userService.auth(ctx.getUser()).should(hasStatusCode(200)).asJwt()))
+                .step("GET /api/user", ctx ->
+                        userService.getUserInfo(ctx.getJwt()).should(hasStatusCode(200)))
+                .step("PUT /api/user", ctx ->
+                        userService.updatePass("newPassUpdated", ctx.getJwt()).should(hasStatusCode(200)))
+                .step("DELETE /api/user", ctx ->
+                        userService.deleteUser(ctx.getJwt()).should(hasStatusCode(200)))
+                .build();
+    }
+
+    /**
+     * Только чтение: логин админом и список пользователей, без записи в базу
+     */
+    public static Scenario adminRead(UserService userService) {
+        return Scenario.named("adminRead")
+                .step("POST /api/login", ctx -> {
+                    ctx.setUser(getAdminUser());
+                    ctx.setJwt(userService.auth(ctx.getUser()).should(hasStatusCode(200)).asJwt());
+                })
+                .step("GET /api/user", ctx ->
+                        userService.getUserInfo(ctx.getJwt()).should(hasStatusCode(200)))
+                .step("GET /api/users", ctx ->
+                        userService.getAllUsers().should(hasStatusCode(200)))
+                .build();
+    }
+
+    /**
+     * Скачивание базовой картинки: тело читается потоком и сверяется по sha-256 с фикстурой
+     */
+    public static Scenario fileDownload(FileService fileService) {
+        return Scenario.named("fileDownload")
+                .step("GET /api/files/download", ctx ->
+                        fileService.downloadsBaseImage()
+                                .should(hasStatusCode(200))
+                                .should(hasSameContentAs(UPLOAD_FILE)))
+                .build();
+    }
+
+    /**
+     * Загрузка фикстуры и скачивание последнего файла. Все итерации грузят один и тот же файл,
+     * поэтому при параллельных загрузках последний файл все равно совпадает с фикстурой.
+     */
+    public static Scenario fileRoundTrip(FileService fileService) {
+        return Scenario.named("fileRoundTrip")
+                .step("POST /api/files/upload", ctx ->
+                        fileService.uploadFile(UPLOAD_FILE)
+                                .should(hasStatusCode(200))
+                                .should(hasMessage("file uploaded to server")))
+                .step("GET /api/files/downloadLastUploaded", ctx ->
+                        fileService.downloadLastFile()
+                                .should(hasStatusCode(200))
+                                .should(hasSameContentAs(UPLOAD_FILE)))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package load;
+
+import lombok.Value;
+
+/**
+ * Step - шаг сценария; name совпадает с эндпоинтом ("POST /api/login"),
+ * под этим именем шаг попадает в отчет
+ */
+@Value
+public class Step {
+    String name;
+    Action action;
+
+    @FunctionalInterface
+    public interface Action {
+        void run(ScenarioContext context);
+    }
+}
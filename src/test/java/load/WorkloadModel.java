@@ -0,0 +1,10 @@
+package load;
+
+/**
+ * CLOSED - фиксированное число виртуальных пользователей крутит сценарий по кругу;
+ * OPEN - новые итерации запускаются с заданной частотой независимо от времени ответа
+ */
+public enum WorkloadModel {
+    CLOSED,
+    OPEN
+}
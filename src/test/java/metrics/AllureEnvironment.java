@@ -0,0 +1,41 @@
+package metrics;
+
+import io.qameta.allure.util.PropertiesUtils;
+import lombok.SneakyThrows;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * AllureEnvironment - environment.properties в allure-results, блок Environment отчета.
+ * Сводки конца прогона дописываются в файл, не затирая уже записанные туда ключи.
+ */
+public final class AllureEnvironment {
+    private static final String ENVIRONMENT_FILE = "environment.properties";
+
+    private AllureEnvironment() {
+    }
+
+    @SneakyThrows
+    public static synchronized void merge(Map<String, String> entries) {
+        Path results = Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results"));
+        Path file = results.resolve(ENVIRONMENT_FILE);
+        Properties environment = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                environment.load(in);
+            }
+        }
+        entries.forEach(environment::setProperty);
+        Files.createDirectories(results);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            environment.store(out, null);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EndpointStats - латентность (мкс, HdrHistogram) и число ошибок одного эндпоинта.
+ * Запись из любого количества потоков без блокировок.
+ */
+public class EndpointStats {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String endpoint;
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(long nanos, boolean success) {
+        histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram histogramCopy() {
+        return histogram.copy();
+    }
+
+    public LatencySummary summary() {
+        Histogram copy = histogram.copy();
+        return LatencySummary.builder()
+                .endpoint(endpoint)
+                .count(copy.getTotalCount())
+                .errors(errors.sum())
+                .p50Ms(toMillis(copy.getValueAtPercentile(50)))
+                .p90Ms(toMillis(copy.getValueAtPercentile(90)))
+                .p99Ms(toMillis(copy.getValueAtPercentile(99)))
+                .maxMs(toMillis(copy.getMaxValue()))
+                .meanMs(copy.getMean() / 1000.0)
+                .build();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,34 @@
+package metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * LatencyRegistry - набор EndpointStats по ключу "МЕТОД /путь"
+ */
+public class LatencyRegistry {
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        stats.computeIfAbsent(endpoint, EndpointStats::new).record(nanos, success);
+    }
+
+    public Optional<EndpointStats> get(String endpoint) {
+        return Optional.ofNullable(stats.get(endpoint));
+    }
+
+    public List<LatencySummary> summaries() {
+        return stats.values().stream()
+                .map(EndpointStats::summary)
+                .sorted(Comparator.comparing(LatencySummary::getEndpoint))
+                .collect(Collectors.toList());
+    }
+
+    public boolean isEmpty() {
+        return stats.isEmpty();
+    }
+}
@@ -0,0 +1,21 @@
+package metrics;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LatencySummary {
+    String endpoint;
+    long count;
+    long errors;
+    double p50Ms;
+    double p90Ms;
+    double p99Ms;
+    double maxMs;
+    double meanMs;
+
+    public double getErrorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+}
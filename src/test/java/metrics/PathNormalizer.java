@@ -0,0 +1,40 @@
+package metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * PathNormalizer - приводит путь запроса к шаблону, чтобы /users/7 и /users/8
+ * попадали в одну гистограмму: шаблоны {userId} остаются как есть,
+ * числа, uuid и длинные hex-идентификаторы заменяются на {id}
+ */
+public final class PathNormalizer {
+    private static final Pattern SCHEME_AND_HOST = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*://[^/]+");
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{24,}");
+
+    private PathNormalizer() {
+    }
+
+    public static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String result = SCHEME_AND_HOST.matcher(path).replaceFirst("");
+        int query = result.indexOf('?');
+        if (query >= 0) {
+            result = result.substring(0, query);
+        }
+        StringBuilder normalized = new StringBuilder();
+        for (String segment : result.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            normalized.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        return normalized.length() == 0 ? "/" : normalized.toString();
+    }
+
+    public static String endpoint(String method, String path) {
+        return method + " " + normalize(path);
+    }
+}
@@ -0,0 +1,59 @@
+package metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.SneakyThrows;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SuiteLatency - латентность всех запросов прогона.
+ * В конце прогона сводка p50/p90/p99/max пишется в build/latency/latency-summary.json
+ * и строками "latency <endpoint>" в environment.properties allure-results (AllureEnvironment),
+ * откуда отчет показывает ее в блоке Environment.
+ */
+public final class SuiteLatency {
+    private static final LatencyRegistry REGISTRY = new LatencyRegistry();
+    private static final TimingFilter FILTER = new TimingFilter(REGISTRY);
+    private static final File SUMMARY_FILE = new File("build/latency/latency-summary.json");
+
+    private SuiteLatency() {
+    }
+
+    public static LatencyRegistry registry() {
+        return REGISTRY;
+    }
+
+    public static TimingFilter timingFilter() {
+        return FILTER;
+    }
+
+    @SneakyThrows
+    public static void writeReport() {
+        if (REGISTRY.isEmpty()) {
+            return;
+        }
+        List<LatencySummary> summaries = REGISTRY.summaries();
+        byte[] json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(summaries);
+
+        SUMMARY_FILE.getParentFile().mkdirs();
+        Files.write(SUMMARY_FILE.toPath(), json);
+        writeEnvironment(summaries);
+    }
+
+    private static void writeEnvironment(List<LatencySummary> summaries) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (LatencySummary summary : summaries) {
+            entries.put("latency " + summary.getEndpoint(), String.format(Locale.ROOT,
+                    "n=%d errors=%d p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                    summary.getCount(), summary.getErrors(),
+                    summary.getP50Ms(), summary.getP90Ms(), summary.getP99Ms(), summary.getMaxMs()));
+        }
+        AllureEnvironment.merge(entries);
+    }
+}
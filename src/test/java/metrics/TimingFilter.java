@@ -0,0 +1,41 @@
+package metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * TimingFilter - пишет время каждого запроса в LatencyRegistry по ключу "МЕТОД /шаблон/пути".
+ * Стоит последним в цепочке, поэтому в замер не попадают логирование и allure.
+ * Ошибкой считаются 5xx и исключения, 4xx - ожидаемые ответы негативных тестов.
+ */
+public class TimingFilter implements OrderedFilter {
+    private final LatencyRegistry registry;
+
+    public TimingFilter(LatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = PathNormalizer.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            registry.record(endpoint, System.nanoTime() - start, response.getStatusCode() < 500);
+            return response;
+        } catch (RuntimeException e) {
+            registry.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+}
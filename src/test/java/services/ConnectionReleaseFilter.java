@@ -0,0 +1,35 @@
+package services;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import listener.AttachmentPolicy;
+
+/**
+ * ConnectionReleaseFilter - возвращает соединение в пул сразу после ответа.
+ * Соединение освобождается, только когда тело дочитано до конца, а тест,
+ * проверивший один статус, тело не читает. Текстовые тела фильтр буферизует
+ * (они небольшие и почти всегда читаются проверками), бинарные оставляет потоком:
+ * их обязан дочитать или закрыть вызывающий код, как это делает FileService.
+ */
+class ConnectionReleaseFilter implements OrderedFilter {
+    private static final AttachmentPolicy POLICY = AttachmentPolicy.defaults();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (!POLICY.isBinary(response.getContentType())) {
+            response.asByteArray();
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
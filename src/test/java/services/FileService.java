@@ -1,15 +1,34 @@
 package services;
 
 import assertions.AssertableResponse;
+import config.Configs;
+import io.qameta.allure.Allure;
+import io.restassured.builder.MultiPartSpecBuilder;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.SneakyThrows;
+import utils.FileDigest;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 
-import static io.restassured.RestAssured.given;
+import static assertions.Conditions.hasStatusCode;
 
 public class FileService {
+    private final String baseUri;
+
+    public FileService() {
+        this(Configs.api().swaggerUri());
+    }
+
+    public FileService(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
     public AssertableResponse downloadsBaseImage() {
         return new AssertableResponse(given().get("/api/files/download").then());
     }
@@ -18,12 +37,69 @@ public class FileService {
         return new AssertableResponse(given().get("/api/files/downloadLastUploaded").then());
     }
 
-    @SneakyThrows
+    /**
+     * Файл уходит в multipart потоком, целиком в память не читается
+     */
     public AssertableResponse uploadFile(File file) {
         return new AssertableResponse(given()
                 .contentType(ContentType.MULTIPART)
-                .multiPart("file", "myFile", Files.readAllBytes(file.toPath()))
+                .multiPart(new MultiPartSpecBuilder(file)
+                        .controlName("file")
+                        .fileName("myFile")
+                        .build())
                 .post("/api/files/upload").then());
     }
 
+    /**
+     * Поток уходит в multipart без промежуточной копии, закрывает его вызывающий
+     */
+    public AssertableResponse uploadFile(InputStream stream, String fileName) {
+        return new AssertableResponse(given()
+                .contentType(ContentType.MULTIPART)
+                .multiPart("file", fileName, stream)
+                .post("/api/files/upload").then());
+    }
+
+    public FileDigest downloadBaseImageTo(Path target) {
+        return downloadTo("/api/files/download", target);
+    }
+
+    public FileDigest downloadLastFileTo(Path target) {
+        return downloadTo("/api/files/downloadLastUploaded", target);
+    }
+
+    /**
+     * Длина и sha-256 без сохранения тела на диск
+     */
+    public FileDigest digestBaseImage() {
+        return download("/api/files/download", OutputStream.nullOutputStream());
+    }
+
+    public FileDigest digestLastFile() {
+        return download("/api/files/downloadLastUploaded", OutputStream.nullOutputStream());
+    }
+
+    @SneakyThrows
+    private FileDigest downloadTo(String path, Path target) {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            return download(path, out);
+        }
+    }
+
+    /**
+     * Тело читается потоком до конца, поэтому соединение возвращается в пул;
+     * фильтры бинарное тело не буферизуют, длина и sha-256 записываются в отчет здесь
+     */
+    private FileDigest download(String path, OutputStream target) {
+        Response response = given().get(path);
+        new AssertableResponse(response.then()).should(hasStatusCode(200));
+        FileDigest digest = FileDigest.copy(response.asInputStream(), target);
+        Allure.addAttachment("Response body digest", "text/plain",
+                response.getContentType() + ", " + digest.getLength() + " байт, sha-256 " + digest.getSha256());
+        return digest;
+    }
+
+    private RequestSpecification given() {
+        return RequestSpecProvider.request(baseUri);
+    }
 }
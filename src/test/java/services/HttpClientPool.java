@@ -0,0 +1,125 @@
+package services;
+
+import config.ApiConfig;
+import config.Configs;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HttpClientPool - общий пул keep-alive соединений для всех сервисов.
+ * RestAssured по умолчанию создает новый http-клиент на каждый запрос,
+ * здесь каждый поток получает свой легкий клиент поверх одного пула соединений,
+ * поэтому TCP/TLS рукопожатия не повторяются от запроса к запросу.
+ * Размеры пула и таймауты задаются в ApiConfig.
+ * Соединение возвращается в пул, когда тело ответа дочитано: текстовые тела
+ * дочитывает ConnectionReleaseFilter, бинарные - вызывающий код. Простаивающие
+ * соединения закрываются раз в минуту, а поток, не дождавшийся свободного соединения
+ * за connectTimeoutMs, получает ConnectionPoolTimeoutException вместо вечного ожидания.
+ * Раз в секунду снимаются пиковые leased/pending, сводку в конце прогона публикует HttpPoolReportExtension.
+ */
+@SuppressWarnings("deprecation")
+public final class HttpClientPool {
+    private static final ApiConfig SETTINGS = Configs.api();
+    private static final long KEEP_ALIVE_MS = TimeUnit.SECONDS.toMillis(30);
+    private static final long IDLE_EVICTION_SECONDS = 60;
+    private static final long SAMPLE_SECONDS = 1;
+    private static final AtomicInteger PEAK_LEASED = new AtomicInteger();
+    private static final AtomicInteger PEAK_PENDING = new AtomicInteger();
+
+    private static final SharedConnectionManager CONNECTIONS = new SharedConnectionManager();
+    private static final ThreadLocal<DefaultHttpClient> CLIENT = ThreadLocal.withInitial(HttpClientPool::newClient);
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(CLIENT::get)
+                    .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, SETTINGS.connectTimeoutMs())
+                    .setParam(CoreConnectionPNames.SO_TIMEOUT, SETTINGS.socketTimeoutMs())
+                    .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) SETTINGS.connectTimeoutMs()));
+    private static final ConnectionReleaseFilter RELEASE_FILTER = new ConnectionReleaseFilter();
+
+    static {
+        CONNECTIONS.setMaxTotal(SETTINGS.poolMaxTotal());
+        CONNECTIONS.setDefaultMaxPerRoute(SETTINGS.poolMaxPerRoute());
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            CONNECTIONS.closeExpiredConnections();
+            CONNECTIONS.closeIdleConnections(IDLE_EVICTION_SECONDS, TimeUnit.SECONDS);
+        }, IDLE_EVICTION_SECONDS, IDLE_EVICTION_SECONDS, TimeUnit.SECONDS);
+        evictor.scheduleAtFixedRate(HttpClientPool::sample, SAMPLE_SECONDS, SAMPLE_SECONDS, TimeUnit.SECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(CONNECTIONS::close, "http-pool-shutdown"));
+    }
+
+    private HttpClientPool() {
+    }
+
+    public static RestAssuredConfig config() {
+        return CONFIG;
+    }
+
+    static ConnectionReleaseFilter releaseFilter() {
+        return RELEASE_FILTER;
+    }
+
+    /**
+     * leased - занятые соединения, available - свободные keep-alive, pending - ждущие соединения потоки
+     */
+    public static PoolStats stats() {
+        return CONNECTIONS.getTotalStats();
+    }
+
+    /**
+     * Загрузка пула за прогон: текущее состояние и пики по ежесекундным замерам
+     */
+    public static String utilization() {
+        PoolStats stats = sample();
+        return String.format("max=%d leased=%d available=%d pending=%d peakLeased=%d peakPending=%d",
+                stats.getMax(), stats.getLeased(), stats.getAvailable(), stats.getPending(),
+                PEAK_LEASED.get(), PEAK_PENDING.get());
+    }
+
+    private static PoolStats sample() {
+        PoolStats stats = stats();
+        PEAK_LEASED.accumulateAndGet(stats.getLeased(), Math::max);
+        PEAK_PENDING.accumulateAndGet(stats.getPending(), Math::max);
+        return stats;
+    }
+
+    private static DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTIONS);
+        client.setKeepAliveStrategy((response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return duration > 0 ? duration : KEEP_ALIVE_MS;
+        });
+        return client;
+    }
+
+    /**
+     * Менеджер соединений, который переживает закрытие отдельных клиентов:
+     * shutdown() от клиента игнорируется, реально пул закрывается только в close()
+     */
+    private static class SharedConnectionManager extends PoolingClientConnectionManager {
+        @Override
+        public void shutdown() {
+        }
+
+        void close() {
+            super.shutdown();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JwtCache - кэш токенов по паре логин+пароль, один экземпляр на базовый адрес.
+ * После смены пароля старая пара в кэше не подходит, даже если токен не был сброшен.
+ * Срок жизни берется из claim exp, токен обновляется заранее, за REFRESH_BEFORE_EXPIRY_MS до истечения.
+ * Потокобезопасен: для одного ключа логин выполняется один раз, остальные потоки ждут его future.
+ * Сам логин идет вне функций ConcurrentHashMap, поэтому не блокирует соседние ключи.
+ */
+public class JwtCache {
+    private static final long REFRESH_BEFORE_EXPIRY_MS = TimeUnit.SECONDS.toMillis(30);
+    private static final long DEFAULT_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<Credentials, CompletableFuture<CachedToken>> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Credentials> owners = new ConcurrentHashMap<>();
+
+    public String get(Credentials key, Supplier<String> login) {
+        while (true) {
+            CompletableFuture<CachedToken> created = new CompletableFuture<>();
+            CompletableFuture<CachedToken> pending = tokens.putIfAbsent(key, created);
+            if (pending == null) {
+                return load(key, created, login).jwt;
+            }
+            CachedToken token = await(pending);
+            if (token.isFresh()) {
+                return token.jwt;
+            }
+            if (tokens.remove(key, pending)) {
+                owners.remove(token.jwt);
+            }
+        }
+    }
+
+    /**
+     * Запоминает токен, полученный логином мимо get(): он становится текущим для ключа
+     */
+    public void put(Credentials key, String jwt) {
+        CompletableFuture<CachedToken> previous = tokens.put(key,
+                CompletableFuture.completedFuture(new CachedToken(jwt, expiresAt(jwt))));
+        owners.put(jwt, key);
+        forgetOwner(previous, jwt);
+    }
+
+    /**
+     * Сбрасывает токены ключа, которому принадлежит jwt, после смены пароля или удаления пользователя.
+     * Возвращает этот ключ или null, если токен кэшу не известен.
+     */
+    public Credentials invalidate(String jwt) {
+        Credentials key = owners.remove(jwt);
+        if (key != null) {
+            forgetOwner(tokens.remove(key), jwt);
+        }
+        return key;
+    }
+
+    private CachedToken load(Credentials key, CompletableFuture<CachedToken> future, Supplier<String> login) {
+        try {
+            String jwt = login.get();
+            CachedToken token = new CachedToken(jwt, expiresAt(jwt));
+            owners.put(jwt, key);
+            future.complete(token);
+            return token;
+        } catch (RuntimeException | Error e) {
+            tokens.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void forgetOwner(CompletableFuture<CachedToken> future, String keep) {
+        if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+            String jwt = future.join().jwt;
+            if (!jwt.equals(keep)) {
+                owners.remove(jwt);
+            }
+        }
+    }
+
+    private static CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            //ошибку логина видят все потоки, ждавшие этот ключ, как есть
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    static long expiresAt(String jwt) {
+        String[] parts = jwt.split("\\.");
+        if (parts.length >= 2) {
+            try {
+                byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+                JsonNode exp = MAPPER.readTree(new String(payload, StandardCharsets.UTF_8)).get("exp");
+                if (exp != null && exp.canConvertToLong()) {
+                    return TimeUnit.SECONDS.toMillis(exp.asLong());
+                }
+            } catch (Exception ignored) {
+                //не JWT или без exp - живет DEFAULT_TTL_MS
+            }
+        }
+        return System.currentTimeMillis() + DEFAULT_TTL_MS;
+    }
+
+    /**
+     * Ключ кэша. Пароль в toString не выводится
+     */
+    public record Credentials(String login, String password) {
+        @Override
+        public String toString() {
+            return "Credentials[login=" + login + "]";
+        }
+    }
+
+    private static class CachedToken {
+        private final String jwt;
+        private final long expiresAt;
+
+        CachedToken(String jwt, long expiresAt) {
+            this.jwt = jwt;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt - REFRESH_BEFORE_EXPIRY_MS;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package services;
+
+import config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import stub.StubServer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RequestSpecProvider - базовые спецификации запросов для каждого потока.
+ * Вместо глобального RestAssured.baseURI каждый сервис и тест
+ * получает свою спецификацию, поэтому классы и методы можно запускать параллельно.
+ * Адреса берутся из ApiConfig, адрес "stub" или "stub/<путь>" ведет на встроенную заглушку StubServer.
+ */
+public final class RequestSpecProvider {
+    private static final ThreadLocal<Map<String, RequestSpecification>> SPECS =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private RequestSpecProvider() {
+    }
+
+    public static RequestSpecification spec(String baseUri) {
+        return SPECS.get().computeIfAbsent(baseUri, RequestSpecProvider::buildSpec);
+    }
+
+    public static RequestSpecification request(String baseUri) {
+        return RestAssured.given().spec(spec(baseUri));
+    }
+
+    public static String resolve(String baseUri) {
+        if (ApiConfig.STUB.equals(baseUri) || baseUri.startsWith(ApiConfig.STUB + '/')) {
+            return StubServer.shared().baseUri() + baseUri.substring(ApiConfig.STUB.length());
+        }
+        return baseUri;
+    }
+
+    private static RequestSpecification buildSpec(String baseUri) {
+        return new RequestSpecBuilder()
+                .setBaseUri(resolve(baseUri))
+                .setConfig(HttpClientPool.config())
+                .addFilter(HttpClientPool.releaseFilter())
+                .build();
+    }
+}
@@ -0,0 +1,234 @@
+package services;
+
+import assertions.ResponseSnapshot;
+import config.Configs;
+import models.swager.FullUser;
+import utils.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * UserProvisioner - пакетная регистрация пользователей и их удаление в конце прогона.
+ * Пользователи регистрируются параллельно пакетами вместе с токенами и раздаются тестам из пула.
+ * Учет созданных пользователей включает UserCleanupExtension: тогда каждый успешно
+ * зарегистрированный через UserService пользователь (в том числе созданный самим тестом)
+ * попадает в учет, удаленный через UserService - выходит из него, а оставшихся
+ * в конце прогона UserCleanupExtension удаляет параллельно: логин + DELETE /api/user.
+ * Ошибки логина (пароль сменен, пользователь уже удален) пропускаются.
+ * Нагрузочный режим учет не включает, поэтому его пользователи в памяти не копятся.
+ * Один экземпляр на базовый адрес.
+ */
+public final class UserProvisioner {
+    private static final int BATCH_SIZE = 25;
+    private static final long CLEANUP_TIMEOUT_MINUTES = 5;
+    private static final Map<String, UserProvisioner> INSTANCES = new ConcurrentHashMap<>();
+    private static final Logger LOG = Logger.getLogger(UserProvisioner.class.getName());
+    private static volatile boolean tracking;
+
+    private final UserService userService;
+    private final Map<String, FullUser> created = new ConcurrentHashMap<>();
+    private final BlockingQueue<FullUser> available = new LinkedBlockingQueue<>();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService workers = Executors.newFixedThreadPool(Configs.api().provisionerThreads(),
+            task -> daemon(task, "user-provisioner"));
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(task -> daemon(task, "user-refiller"));
+
+    private UserProvisioner(String baseUri) {
+        this.userService = new UserService(baseUri);
+    }
+
+    public static UserProvisioner instance() {
+        return forUri(Configs.api().swaggerUri());
+    }
+
+    public static UserProvisioner forUri(String baseUri) {
+        return INSTANCES.computeIfAbsent(baseUri, UserProvisioner::new);
+    }
+
+    /**
+     * Включает учет создаваемых пользователей для удаления в конце прогона
+     */
+    public static void enableTracking() {
+        tracking = true;
+    }
+
+    /**
+     * Регистрирует count пользователей пакетами по BATCH_SIZE, получает их токены и кладет в пул.
+     * Возвращает только успешно зарегистрированных.
+     */
+    public List<FullUser> provision(int count) {
+        List<Callable<List<FullUser>>> batches = new ArrayList<>();
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, count - from);
+            batches.add(() -> registerBatch(size));
+        }
+        List<FullUser> registered = new ArrayList<>(count);
+        try {
+            for (Future<List<FullUser>> batch : workers.invokeAll(batches)) {
+                registered.addAll(batch.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать пользователей", e.getCause());
+        }
+        available.addAll(registered);
+        return registered;
+    }
+
+    /**
+     * Зарегистрированный пользователь из пула, если пул пуст - регистрируется сразу
+     */
+    public FullUser take() {
+        FullUser user = available.poll();
+        return user != null ? user : registerOne();
+    }
+
+    /**
+     * Дозаполняет пул до target в фоне через provision().
+     * Одновременно идет не больше одного дозаполнения, оно ждет пакеты в отдельном потоке,
+     * чтобы не занимать потоки регистрации.
+     */
+    public void refillAsync(int target) {
+        if (available.size() >= target || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        refiller.execute(() -> {
+            try {
+                provision(Math.max(0, target - available.size()));
+            } catch (RuntimeException e) {
+                //пул дозаполнится при следующем обращении, take() зарегистрирует пользователя сам
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+
+    public int available() {
+        return available.size();
+    }
+
+    /**
+     * Учет созданного пользователя, если он включен. Хранится сама ссылка,
+     * поэтому смена пароля через setPass() учитывается при удалении.
+     */
+    static void track(String baseUri, FullUser user) {
+        if (tracking) {
+            forUri(baseUri).created.put(user.getLogin(), user);
+        }
+    }
+
+    /**
+     * Пользователь удален самим тестом, в конце прогона удалять его не нужно
+     */
+    static void untrack(String baseUri, String login) {
+        UserProvisioner provisioner = INSTANCES.get(baseUri);
+        if (provisioner != null) {
+            provisioner.created.remove(login);
+        }
+    }
+
+    public int tracked() {
+        return created.size();
+    }
+
+    /**
+     * Удаляет всех учтенных пользователей параллельно, возвращает число удаленных
+     */
+    public int cleanup() {
+        List<FullUser> users = new ArrayList<>(created.values());
+        created.clear();
+        available.clear();
+        AtomicInteger deleted = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (FullUser user : users) {
+            tasks.add(() -> {
+                if (delete(user)) {
+                    deleted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        try {
+            workers.invokeAll(tasks, CLEANUP_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return deleted.get();
+    }
+
+    /**
+     * Очистка всех экземпляров - вызывается один раз в конце прогона
+     */
+    public static void cleanupAll() {
+        INSTANCES.forEach((baseUri, provisioner) -> {
+            int total = provisioner.tracked();
+            if (total > 0) {
+                int deleted = provisioner.cleanup();
+                LOG.info(() -> String.format("Users cleanup %s: deleted %d of %d", baseUri, deleted, total));
+            }
+        });
+    }
+
+    private List<FullUser> registerBatch(int size) {
+        TestDataGenerator generator = new TestDataGenerator(ThreadLocalRandom.current().nextLong());
+        List<FullUser> registered = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            FullUser user = generator.user();
+            if (userService.register(user).asSnapshot().statusCode() == 201) {
+                warmJwt(user);
+                registered.add(user);
+            }
+        }
+        return registered;
+    }
+
+    private FullUser registerOne() {
+        FullUser user = new TestDataGenerator(ThreadLocalRandom.current().nextLong()).user();
+        ResponseSnapshot response = userService.register(user).asSnapshot();
+        if (response.statusCode() != 201) {
+            throw new AssertionError("Не удалось зарегистрировать пользователя " + user.getLogin()
+                    + ": " + response.statusCode() + " " + response.response().asString());
+        }
+        return user;
+    }
+
+    private void warmJwt(FullUser user) {
+        try {
+            userService.getJwt(user);
+        } catch (RuntimeException | AssertionError e) {
+            //токен получит сам тест через getJwt()
+        }
+    }
+
+    private boolean delete(FullUser user) {
+        try {
+            String jwt = userService.auth(user).asSnapshot().getString("token");
+            return jwt != null && userService.deleteUser(jwt).asSnapshot().statusCode() == 200;
+        } catch (RuntimeException e) {
+            //сетевые ошибки при очистке не должны ронять прогон
+            return false;
+        }
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
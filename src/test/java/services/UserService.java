@@ -1,21 +1,45 @@
 package services;
 
 import assertions.AssertableResponse;
+import config.Configs;
 import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
 import models.swager.FullUser;
 import models.swager.JwtAuthData;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static io.restassured.RestAssured.given;
+import static assertions.Conditions.hasStatusCode;
 
 public class UserService {
+    private static final Map<String, JwtCache> JWT_CACHES = new ConcurrentHashMap<>();
+
+    private final String baseUri;
+    private final JwtCache jwtCache;
+
+    public UserService() {
+        this(Configs.api().swaggerUri());
+    }
+
+    public UserService(String baseUri) {
+        this.baseUri = baseUri;
+        this.jwtCache = JWT_CACHES.computeIfAbsent(baseUri, key -> new JwtCache());
+    }
+
+    /**
+     * Успешно созданный пользователь учитывается в UserProvisioner (если учет включен) и удаляется в конце прогона
+     */
     public AssertableResponse register(FullUser user){
-        return new AssertableResponse(given().contentType(ContentType.JSON)
+        AssertableResponse response = new AssertableResponse(given().contentType(ContentType.JSON)
                 .body(user)
                 .post("/api/signup")
                 .then());
+        if (response.asSnapshot().statusCode() == 201) {
+            UserProvisioner.track(baseUri, user);
+        }
+        return response;
     }
 
     public AssertableResponse getUserInfo(String jwt) {
@@ -34,20 +58,68 @@ public class UserService {
         Map<String, String> password = new HashMap<>();
         password.put("password", newPassword);
 
-        return new AssertableResponse(given().contentType(ContentType.JSON)
+        AssertableResponse response = new AssertableResponse(given().contentType(ContentType.JSON)
                 .auth().oauth2(jwt)
                 .body(password)
                 .put("/api/user")
                 .then());
+        invalidateOnSuccess(response, jwt);
+        return response;
     }
 
+    /**
+     * Удаленный пользователь выходит из учета UserProvisioner, если его токен известен JwtCache
+     */
     public AssertableResponse deleteUser(String jwt){
-        return new AssertableResponse(given().auth().oauth2(jwt)
+        AssertableResponse response = new AssertableResponse(given().auth().oauth2(jwt)
                 .delete("/api/user")
                 .then());
+        if (response.asSnapshot().statusCode() == 200) {
+            JwtCache.Credentials credentials = jwtCache.invalidate(jwt);
+            if (credentials != null) {
+                UserProvisioner.untrack(baseUri, credentials.login());
+            }
+        }
+        return response;
     }
 
+    /**
+     * Успешный логин обновляет токен пользователя в JwtCache,
+     * чтобы смена пароля или удаление по этому токену сбрасывали кэш
+     */
     public AssertableResponse auth(FullUser fullUser){
+        AssertableResponse response = login(fullUser);
+        String jwt = response.asSnapshot().statusCode() == 200 ? response.asJwt() : null;
+        if (jwt != null) {
+            jwtCache.put(credentials(fullUser), jwt);
+        }
+        return response;
+    }
+
+    /**
+     * Токен из кэша JwtCache по логину и паролю, логин выполняется только при первом обращении или перед истечением
+     */
+    public String getJwt(FullUser fullUser) {
+        return jwtCache.get(credentials(fullUser), () -> login(fullUser).should(hasStatusCode(200)).asJwt());
+    }
+
+    public AssertableResponse getAllUsers(){
+        return new AssertableResponse(given()
+                .get("/api/users")
+                .then());
+    }
+
+    private void invalidateOnSuccess(AssertableResponse response, String jwt) {
+        if (response.asSnapshot().statusCode() == 200) {
+            jwtCache.invalidate(jwt);
+        }
+    }
+
+    private static JwtCache.Credentials credentials(FullUser fullUser) {
+        return new JwtCache.Credentials(fullUser.getLogin(), fullUser.getPass());
+    }
+
+    private AssertableResponse login(FullUser fullUser) {
         JwtAuthData data = new JwtAuthData(fullUser.getLogin(), fullUser.getPass());
         return new AssertableResponse(given().contentType(ContentType.JSON)
                 .body(data)
@@ -55,9 +127,7 @@ public class UserService {
                 .then());
     }
 
-    public AssertableResponse getAllUsers(){
-        return new AssertableResponse(given()
-                .get("/api/users")
-                .then());
+    private RequestSpecification given() {
+        return RequestSpecProvider.request(baseUri);
     }
 }
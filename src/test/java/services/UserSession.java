@@ -0,0 +1,13 @@
+package services;
+
+import lombok.Value;
+import models.swager.FullUser;
+
+/**
+ * UserSession - зарегистрированный пользователь вместе с его токеном
+ */
+@Value
+public class UserSession {
+    FullUser user;
+    String jwt;
+}
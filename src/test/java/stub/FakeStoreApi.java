@@ -0,0 +1,123 @@
+package stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import models.fakeapiusers.Address;
+import models.fakeapiusers.AuthData;
+import models.fakeapiusers.Geolocation;
+import models.fakeapiusers.Name;
+import models.fakeapiusers.POJORequestAddUser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FakeStoreApi - заглушка пользователей fakestoreapi.com: /users (limit, sort), /users/{id}, /auth/login.
+ * Как и настоящий сервис, изменения не сохраняет: POST/PUT/DELETE только возвращают результат.
+ */
+class FakeStoreApi {
+    private static final String USERS = "/users";
+    private final List<POJORequestAddUser> users = List.of(
+            user(1, "john@gmail.com", "johnd", "m38rmF$", "john", "doe", "kilcoole", "new road", "7682", "12926-3874", "1-570-236-7033"),
+            user(2, "morrison@gmail.com", "mor_2314", "83r5^_", "david", "morrison", "kilcoole", "Lovers Ln", "7267", "12926-3874", "1-570-236-7033"),
+            user(3, "kevin@gmail.com", "kevinryan", "kev02937@", "kevin", "ryan", "Cullman", "Frances Ct", "86", "29567-1452", "1-567-094-1345"),
+            user(4, "don@gmail.com", "donero", "ewedon", "don", "romer", "San Antonio", "Hunters Creek Dr", "6454", "98234-1734", "1-765-789-6734"),
+            user(5, "derek@gmail.com", "derek", "jklg*_56", "derek", "powell", "san Antonio", "adams St", "245", "80796-1234", "1-956-001-1945"),
+            user(6, "david_r@gmail.com", "david_r", "3478*#54", "david", "russell", "el paso", "prospect st", "124", "12346-0456", "1-678-345-9856"),
+            user(7, "miriam@gmail.com", "snyder", "f238&@*$", "miriam", "snyder", "fresno", "saddle st", "1342", "96378-0245", "1-123-943-0563"),
+            user(8, "william@gmail.com", "hopkins", "William56$hj", "william", "hopkins", "mesa", "vally view ln", "1342", "96378-0245", "1-478-001-0890"),
+            user(9, "kate@gmail.com", "kate_h", "kfejk@*_", "kate", "hale", "miami", "avondale ave", "345", "96378-0245", "1-678-456-1934"),
+            user(10, "jimmie@gmail.com", "jimmie_k", "klein*#%*", "jimmie", "klein", "fort wayne", "oak lawn ave", "526", "10256-4532", "1-104-001-4567"));
+
+    void register(HttpServer server) {
+        server.createContext(USERS, StubHandler.of(this::users));
+        server.createContext("/auth/login", StubHandler.of(this::login));
+    }
+
+    private void users(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring(USERS.length()).replace("/", "");
+        String method = exchange.getRequestMethod();
+        if (id.isEmpty()) {
+            switch (method) {
+                case "GET" -> StubHandler.sendJson(exchange, 200, list(StubHandler.query(exchange)));
+                case "POST" -> StubHandler.sendJson(exchange, 200, Map.of("id", users.size() + 1));
+                default -> StubHandler.send(exchange, 405, "text/plain", new byte[0]);
+            }
+            return;
+        }
+        POJORequestAddUser user = find(id);
+        switch (method) {
+            case "GET", "DELETE" -> StubHandler.sendJson(exchange, 200, user);
+            case "PUT" -> {
+                POJORequestAddUser updated = StubHandler.readJson(exchange, POJORequestAddUser.class);
+                if (updated != null && user != null) {
+                    updated.setId(user.getId());
+                }
+                StubHandler.sendJson(exchange, 200, updated);
+            }
+            default -> StubHandler.send(exchange, 405, "text/plain", new byte[0]);
+        }
+    }
+
+    private List<POJORequestAddUser> list(Map<String, String> query) {
+        List<POJORequestAddUser> result = new ArrayList<>(users);
+        if ("desc".equalsIgnoreCase(query.get("sort"))) {
+            Collections.reverse(result);
+        }
+        int limit = parseInt(query.get("limit"));
+        return limit > 0 && limit < result.size() ? result.subList(0, limit) : result;
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        AuthData auth = StubHandler.readJson(exchange, AuthData.class);
+        boolean valid = auth != null && users.stream().anyMatch(user ->
+                user.getUsername().equals(auth.getUsername()) && user.getPassword().equals(auth.getPassword()));
+        if (!valid) {
+            StubHandler.send(exchange, 401, "text/plain; charset=utf-8",
+                    "username or password is incorrect".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        byte[] random = new byte[24];
+        ThreadLocalRandom.current().nextBytes(random);
+        StubHandler.sendJson(exchange, 200, Map.of("token", Base64.getUrlEncoder().withoutPadding().encodeToString(random)));
+    }
+
+    private POJORequestAddUser find(String id) {
+        int userId = parseInt(id);
+        return users.stream().filter(user -> user.getId() == userId).findFirst().orElse(null);
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static POJORequestAddUser user(int id, String email, String username, String password,
+                                           String firstname, String lastname, String city, String street,
+                                           String number, String zipcode, String phone) {
+        return POJORequestAddUser.builder()
+                .id(id)
+                .email(email)
+                .username(username)
+                .password(password)
+                .name(new Name(firstname, lastname))
+                .address(Address.builder()
+                        .city(city)
+                        .street(street)
+                        .number(number)
+                        .zipcode(zipcode)
+                        .geolocation(new Geolocation("-37.3159", "81.1496"))
+                        .build())
+                .phone(phone)
+                .build();
+    }
+}
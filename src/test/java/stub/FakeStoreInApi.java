@@ -0,0 +1,128 @@
+package stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import models.fakeapiusers.Address;
+import models.fakeapiusers.Geolocation;
+import models.fakeapiusers.Name;
+import models.fakeapiusers.POJORequestAddUser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FakeStoreInApi - заглушка пользователей fakestoreapi.in под префиксом PREFIX:
+ * /api/users (limit, sort), /api/users/{id}, /auth/login (405, как у настоящего сервиса).
+ * Ответы завернуты в {"status": "SUCCESS", "message": ..., "users" | "user": ...}.
+ * Изменения не сохраняются: POST/PUT/DELETE только возвращают результат.
+ */
+class FakeStoreInApi {
+    static final String PREFIX = "/fakestore-in";
+    private static final String USERS = PREFIX + "/api/users";
+    private static final String[] ZIPCODES = {"75070", "87835", "30806", "19699", "71670", "64908", "16482",
+            "71355", "47177", "09316", "80044", "45275", "98096", "16642", "73260", "28227", "37670", "01691",
+            "15230", "30914"};
+    private final List<POJORequestAddUser> users = new ArrayList<>();
+
+    FakeStoreInApi() {
+        for (int id = 1; id <= ZIPCODES.length; id++) {
+            users.add(user(id, id == 5 ? "West Paulport" : "City " + id, ZIPCODES[id - 1]));
+        }
+    }
+
+    void register(HttpServer server) {
+        server.createContext(USERS, StubHandler.of(this::users));
+        server.createContext(PREFIX + "/auth/login", StubHandler.of(exchange ->
+                StubHandler.send(exchange, 405, "text/plain", new byte[0])));
+    }
+
+    private void users(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring(USERS.length()).replace("/", "");
+        String method = exchange.getRequestMethod();
+        if (id.isEmpty()) {
+            switch (method) {
+                case "GET" -> StubHandler.sendJson(exchange, 200,
+                        envelope("Here you go! You've received users", "users", list(StubHandler.query(exchange))));
+                case "POST" -> {
+                    POJORequestAddUser created = StubHandler.readJson(exchange, POJORequestAddUser.class);
+                    if (created != null) {
+                        created.setId(users.size() + 1);
+                    }
+                    StubHandler.sendJson(exchange, 200, envelope("User created", "user", created));
+                }
+                default -> StubHandler.send(exchange, 405, "text/plain", new byte[0]);
+            }
+            return;
+        }
+        POJORequestAddUser user = find(id);
+        if (user == null) {
+            StubHandler.sendJson(exchange, 404, envelope("User not found", "user", null));
+            return;
+        }
+        switch (method) {
+            case "GET" -> StubHandler.sendJson(exchange, 200, envelope("Here is the user", "user", user));
+            case "PUT" -> {
+                POJORequestAddUser updated = StubHandler.readJson(exchange, POJORequestAddUser.class);
+                if (updated != null) {
+                    updated.setId(user.getId());
+                }
+                StubHandler.sendJson(exchange, 200, envelope("User updated", "user", updated));
+            }
+            case "DELETE" -> StubHandler.sendJson(exchange, 200,
+                    envelope("User with id " + user.getId() + " has been deleted", "user", user));
+            default -> StubHandler.send(exchange, 405, "text/plain", new byte[0]);
+        }
+    }
+
+    private List<POJORequestAddUser> list(Map<String, String> query) {
+        List<POJORequestAddUser> result = new ArrayList<>(users);
+        if ("desc".equalsIgnoreCase(query.get("sort"))) {
+            Collections.reverse(result);
+        }
+        int limit = parseInt(query.get("limit"));
+        return limit > 0 && limit < result.size() ? result.subList(0, limit) : result;
+    }
+
+    private POJORequestAddUser find(String id) {
+        int userId = parseInt(id);
+        return users.stream().filter(user -> user.getId() == userId).findFirst().orElse(null);
+    }
+
+    private static Map<String, Object> envelope(String message, String key, Object value) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "SUCCESS");
+        body.put("message", message);
+        body.put(key, value);
+        return body;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static POJORequestAddUser user(int id, String city, String zipcode) {
+        return POJORequestAddUser.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .username("user" + id)
+                .password("pass" + id)
+                .name(new Name("First" + id, "Last" + id))
+                .address(Address.builder()
+                        .city(city)
+                        .street("Street " + id)
+                        .number(String.valueOf(100 + id))
+                        .zipcode(zipcode)
+                        .geolocation(new Geolocation("-37.3159", "81.1496"))
+                        .build())
+                .phone("1-570-236-" + (7000 + id))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package stub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Multipart - минимальный разбор multipart/form-data: содержимое части по имени поля
+ */
+final class Multipart {
+    private static final byte[] HEADERS_END = "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    private Multipart() {
+    }
+
+    static byte[] part(String contentType, byte[] body, String name) {
+        String boundary = boundary(contentType);
+        if (boundary == null) {
+            return null;
+        }
+        byte[] delimiter = ("--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] nextDelimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        int start = indexOf(body, delimiter, 0);
+        while (start >= 0) {
+            int headersStart = start + delimiter.length + 2;
+            int headersEnd = indexOf(body, HEADERS_END, headersStart);
+            if (headersEnd < 0) {
+                return null;
+            }
+            int contentStart = headersEnd + HEADERS_END.length;
+            int contentEnd = indexOf(body, nextDelimiter, contentStart);
+            if (contentEnd < 0) {
+                return null;
+            }
+            String headers = new String(body, headersStart, headersEnd - headersStart, StandardCharsets.ISO_8859_1);
+            if (headers.contains("name=\"" + name + "\"")) {
+                return Arrays.copyOfRange(body, contentStart, contentEnd);
+            }
+            start = contentEnd + 2;
+        }
+        return null;
+    }
+
+    private static String boundary(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("boundary=")) {
+                return trimmed.substring("boundary=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = Math.max(from, 0); i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,66 @@
+package stub;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StubServer - встроенная заглушка swagger-api (/api/*), fakestore (/users, /auth/login)
+ * и fakestoreapi.in (/fakestore-in/api/users) на com.sun.net.httpserver.
+ * Поднимается на свободном порту за миллисекунды,
+ * состояние живет в памяти, каждый запрос обрабатывается в своем виртуальном потоке.
+ * Включается профилем stub (./gradlew test -Pprofile=stub): адрес "stub" или "stub/<путь>" в ApiConfig
+ * RequestSpecProvider заменяет на адрес заглушки (с тем же путем).
+ */
+public class StubServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StubServer() {
+        this(0);
+    }
+
+    public StubServer(int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось поднять заглушку", e);
+        }
+        new SwaggerApi().register(server);
+        new FakeStoreApi().register(server);
+        new FakeStoreInApi().register(server);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Общая заглушка на JVM, стартует при первом обращении и останавливается при выходе
+     */
+    public static StubServer shared() {
+        return Holder.INSTANCE;
+    }
+
+    public String baseUri() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static class Holder {
+        private static final StubServer INSTANCE = new StubServer();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close, "stub-server-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import models.swager.FullUser;
+import models.swager.Info;
+import models.swager.JwtAuthData;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SwaggerApi - заглушка пользователей и файлов swagger-api: /api/signup, /api/login,
+ * /api/user, /api/users, /api/files/*. Сообщения совпадают с настоящим сервером.
+ * Базовые пользователи не меняются и не удаляются, токен - JWT с claim exp.
+ */
+class SwaggerApi {
+    private static final Set<String> BASE_USERS = Set.of("admin", "demo", "threadqa");
+    private static final long TOKEN_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+    private static final String BASE_IMAGE = "threadqa.jpeg";
+
+    private final Map<String, FullUser> users = new ConcurrentHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final byte[] secret = new byte[32];
+    private final byte[] baseImage = loadBaseImage();
+    private final AtomicReference<byte[]> lastUploaded = new AtomicReference<>(baseImage);
+
+    SwaggerApi() {
+        ThreadLocalRandom.current().nextBytes(secret);
+        BASE_USERS.forEach(login -> users.put(login, FullUser.builder().login(login).pass(login).build()));
+    }
+
+    void register(HttpServer server) {
+        server.createContext("/api/signup", StubHandler.of(this::signup));
+        server.createContext("/api/login", StubHandler.of(this::login));
+        server.createContext("/api/user", StubHandler.of(this::user));
+        server.createContext("/api/users", StubHandler.of(this::allUsers));
+        server.createContext("/api/files/download", StubHandler.of(exchange -> send(exchange, baseImage)));
+        server.createContext("/api/files/downloadLastUploaded", StubHandler.of(exchange -> send(exchange, lastUploaded.get())));
+        server.createContext("/api/files/upload", StubHandler.of(this::upload));
+    }
+
+    private void signup(HttpExchange exchange) throws IOException {
+        FullUser user = StubHandler.readJson(exchange, FullUser.class);
+        if (user == null || isBlank(user.getLogin()) || isBlank(user.getPass())) {
+            info(exchange, 400, "fail", "Missing login or password");
+        } else if (users.putIfAbsent(user.getLogin(), user) != null) {
+            info(exchange, 400, "fail", "Login already exist");
+        } else {
+            info(exchange, 201, "success", "User created");
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        JwtAuthData auth = StubHandler.readJson(exchange, JwtAuthData.class);
+        FullUser user = auth == null ? null : users.get(String.valueOf(auth.getUsername()));
+        if (user == null || !user.getPass().equals(auth.getPassword())) {
+            info(exchange, 401, "fail", "Invalid login or password");
+            return;
+        }
+        String token = issueToken(user.getLogin());
+        sessions.put(token, user.getLogin());
+        StubHandler.sendJson(exchange, 200, Map.of("token", token));
+    }
+
+    private void user(HttpExchange exchange) throws IOException {
+        String token = StubHandler.bearer(exchange);
+        String login = token == null ? null : sessions.get(token);
+        FullUser user = login == null ? null : users.get(login);
+        if (user == null || isExpired(token)) {
+            info(exchange, 401, "fail", "Unauthorized");
+            return;
+        }
+        switch (exchange.getRequestMethod()) {
+            case "GET" -> StubHandler.sendJson(exchange, 200, user);
+            case "PUT" -> updatePassword(exchange, user);
+            case "DELETE" -> delete(exchange, user);
+            default -> info(exchange, 405, "fail", "Method not allowed");
+        }
+    }
+
+    private void updatePassword(HttpExchange exchange, FullUser user) throws IOException {
+        if (BASE_USERS.contains(user.getLogin())) {
+            info(exchange, 400, "fail", "Cant update base users");
+            return;
+        }
+        Map<?, ?> body = StubHandler.readJson(exchange, Map.class);
+        Object password = body == null ? null : body.get("password");
+        if (password == null) {
+            info(exchange, 400, "fail", "Missing password");
+            return;
+        }
+        users.put(user.getLogin(), FullUser.builder()
+                .login(user.getLogin())
+                .pass(password.toString())
+                .games(user.getGames())
+                .build());
+        info(exchange, 200, "success", "User password successfully changed");
+    }
+
+    private void delete(HttpExchange exchange, FullUser user) throws IOException {
+        if (BASE_USERS.contains(user.getLogin())) {
+            info(exchange, 400, "fail", "Cant delete base users");
+            return;
+        }
+        users.remove(user.getLogin());
+        sessions.values().removeIf(user.getLogin()::equals);
+        info(exchange, 200, "success", "User successfully deleted");
+    }
+
+    private void allUsers(HttpExchange exchange) throws IOException {
+        StubHandler.sendJson(exchange, 200, new ArrayList<>(users.keySet()));
+    }
+
+    private void upload(HttpExchange exchange) throws IOException {
+        byte[] file = Multipart.part(exchange.getRequestHeaders().getFirst("Content-Type"),
+                StubHandler.body(exchange), "file");
+        if (file == null) {
+            info(exchange, 400, "fail", "file not found in request");
+            return;
+        }
+        lastUploaded.set(file);
+        info(exchange, 200, "success", "file uploaded to server");
+    }
+
+    private void send(HttpExchange exchange, byte[] file) throws IOException {
+        StubHandler.send(exchange, 200, "image/jpeg", file);
+    }
+
+    private void info(HttpExchange exchange, int status, String result, String message) throws IOException {
+        StubHandler.sendJson(exchange, status, Map.of("info", Info.builder().status(result).message(message).build()));
+    }
+
+    private String issueToken(String login) {
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(String.format("{\"sub\":\"%s\",\"iat\":%d,\"exp\":%d,\"jti\":\"%d\"}",
+                login, now, now + TOKEN_TTL_SECONDS, ThreadLocalRandom.current().nextLong()).getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + "." + encoder.encodeToString(sign(header + "." + payload));
+    }
+
+    private boolean isExpired(String token) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+            long exp = StubHandler.MAPPER.readTree(payload).path("exp").asLong();
+            return TimeUnit.SECONDS.toMillis(exp) < System.currentTimeMillis();
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+    }
+
+    private byte[] sign(String content) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static byte[] loadBaseImage() {
+        try (InputStream in = SwaggerApi.class.getClassLoader().getResourceAsStream(BASE_IMAGE)) {
+            return in == null ? new byte[0] : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package tests.junit5.api;
 
+import assertions.AssertableResponse;
+import assertions.JsonArrayStream;
+import config.Configs;
 import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-import listener.CustomTpl;
+import io.restassured.specification.RequestSpecification;
 import models.fakeapiusers.Address;
 import models.fakeapiusers.AuthData;
 import models.fakeapiusers.Geolocation;
@@ -15,27 +15,26 @@ import models.fakeapiusers.Name;
 import models.fakeapiusers.POJORequestAddUser;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import services.RequestSpecProvider;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.stream.Collectors;
 
-import static io.restassured.RestAssured.given;
+import static assertions.Conditions.hasArraySizeAtLeast;
+import static assertions.Conditions.hasStatusCode;
+import static assertions.Conditions.isSortedDescBy;
+import static assertions.Conditions.matchesSchema;
 import static org.hamcrest.Matchers.*;
 
 public class SimpleApiRefactoredTests {
-    @BeforeAll
-    public static void setUp() {
-        RestAssured.baseURI = "https://fakestoreapi.com";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
+    private static RequestSpecification given() {
+        return RequestSpecProvider.request(Configs.api().fakeStoreUri());
     }
 
     @Test
@@ -49,11 +48,13 @@ public class SimpleApiRefactoredTests {
     @Test
     public void getSingleUserTest() {
         int userId = 2;
-        POJORequestAddUser response = given()
+        POJORequestAddUser response = new AssertableResponse(given()
                 .pathParam("userId", userId)
                 .get("/users/{userId}")
-                .then()
-                .extract().as(POJORequestAddUser.class);
+                .then())
+                .should(hasStatusCode(200))
+                .should(matchesSchema(POJORequestAddUser.class))
+                .as(POJORequestAddUser.class);
 
         Name name = given()
                 .pathParam("userId", userId)
@@ -102,30 +103,28 @@ public class SimpleApiRefactoredTests {
 
     @Test
     public void getAllUsersSortByDescTest() {
-        //1. тестируем сортировку данных, полученных с сайта и собственную
-        //2. высылаем запрос с участие queryParam: /api/users?sort=desc
+        //1. тестируем сортировку данных, полученных с сайта: /api/users?sort=desc
+        //2. порядок проверяется потоково по id, списки пользователей не собираются
         String sortType = "desc";
-        List<POJORequestAddUser> usersSorted = given()
+        AssertableResponse sorted = new AssertableResponse(given()
                 .queryParam("sort", sortType)
                 .get("/users")
-                .then()
-                .extract()
-                .jsonPath().getList("", POJORequestAddUser.class);
+                .then())
+                .should(hasStatusCode(200))
+                .should(hasArraySizeAtLeast(2))
+                .should(isSortedDescBy("id"));
 
-        List<POJORequestAddUser> usersNotSorted = given()
+        AssertableResponse notSorted = new AssertableResponse(given()
                 .get("/users")
-                .then()
-                .extract()
-                .jsonPath().getList("", POJORequestAddUser.class);
-
-        List<Integer> sortedResponseIds = usersSorted.stream().map(x -> x.getId()).collect(Collectors.toList());
-        List<Integer> notSortedIds = usersNotSorted.stream().map(POJORequestAddUser::getId).toList();
-
-        List<Integer> sortedByCode = usersNotSorted.stream().map(x -> x.getId()).sorted(Comparator.reverseOrder()).toList();
-
-        //Actual   :[20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]
-        Assertions.assertNotEquals(usersSorted, usersNotSorted);
-        Assertions.assertEquals(sortedResponseIds, sortedByCode);
+                .then())
+                .should(hasStatusCode(200));
+
+        //сортировка меняет только порядок: набор пользователей тот же
+        long[] sortedIds = JsonArrayStream.longs(sorted.asSnapshot(), "id");
+        long[] notSortedIds = JsonArrayStream.longs(notSorted.asSnapshot(), "id");
+        Arrays.sort(sortedIds);
+        Arrays.sort(notSortedIds);
+        Assertions.assertArrayEquals(notSortedIds, sortedIds);
     }
 
     @Test
@@ -135,7 +134,7 @@ public class SimpleApiRefactoredTests {
         Integer userId = given().body(user)
                 .contentType(ContentType.JSON)
                 .post("/users")
-                .then().log().all()
+                .then()
                 .statusCode(200)
                 .extract().jsonPath().getInt("id");
 
@@ -184,9 +183,9 @@ public class SimpleApiRefactoredTests {
 
     @Test
     public void deleteUserTest() { //модифицировать нечего
-        given().delete("https://fakestoreapi.in/api/users/7")
+        RequestSpecProvider.request(Configs.api().fakeStoreInUri())
+                .delete("/api/users/7")
                 .then()
-                .log().all()
                 .statusCode(200);
 
     }
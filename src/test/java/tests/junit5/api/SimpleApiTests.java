@@ -1,7 +1,10 @@
 package tests.junit5.api;
 
+import assertions.AssertableResponse;
+import assertions.JsonArrayStream;
+import config.Configs;
 import io.restassured.http.ContentType;
-import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import models.fakeapiusers.Address;
 import models.fakeapiusers.Geolocation;
 import models.fakeapiusers.Name;
@@ -9,35 +12,39 @@ import models.fakeapiusers.POJORequestAddUser;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import services.RequestSpecProvider;
 import lombok.*;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-import static io.restassured.RestAssured.given;
+import static assertions.Conditions.hasStatusCode;
+import static assertions.Conditions.hasUniqueValues;
+import static assertions.Conditions.isSortedDescBy;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 public class SimpleApiTests {
-    String base_url = "https://fakestoreapi.in/api/users/";
+    String base_url = "/api/users/";
+
+    private static RequestSpecification given() {
+        return RequestSpecProvider.request(Configs.api().fakeStoreInUri());
+    }
 
     @Test
     public void getAllUsersTest() {
-        given().get("https://fakestoreapi.in/api/users")
-                .then().statusCode(200)
-                .log().all();
+        given().get("/api/users")
+                .then().statusCode(200);
     }
 
     @Test
     public void getSingleUserTest() {
         int userId = 2;
         given().pathParam("userId", userId)
-                .get("https://fakestoreapi.in/api/users/{userId}")
+                .get("/api/users/{userId}")
                 .then()
-                .log().all()
                 .body("user.id", equalTo(userId))
                 .body("user.address.zipcode", Matchers.matchesPattern("\\d{5}"));
     }
@@ -45,20 +52,18 @@ public class SimpleApiTests {
     @Test
     public void sendOnequery() {
         given().get(base_url)
-                .then()
-                .log().all();
+                .then();
     }
 
     @Test
     public void getUserInfoAbout5User() {
         int userId = 5;
         given().pathParam("userId", userId)
-                .get("https://fakestoreapi.in/api/users/{userId}")
+                .get("/api/users/{userId}")
                 .then()
                 .body("status", equalTo("SUCCESS"))
                 .body("user.id", equalTo(5))
-                .body("user.address.city", equalTo("West Paulport"))
-                .log().all();
+                .body("user.address.city", equalTo("West Paulport"));
     }
 
     @Test
@@ -69,7 +74,6 @@ public class SimpleApiTests {
                 .when()
                 .get(base_url)
                 .then()
-                .log().all()
                 .statusCode(200)
                 .body("users", Matchers.hasSize(limitSize));
     }
@@ -79,55 +83,48 @@ public class SimpleApiTests {
         //1. тестируем сортировку данных, полученных с сайта и собственную
         //2. высылаем запрос с участие queryParam: /api/users?sort=desc
         String sortType = "desc";
-        Response sortedResponse = given().queryParam("sort", sortType)
-                .get("https://fakestoreapi.in/api/users/")
-                .then().log().all()
-                .statusCode(200)
-                .extract().response();
+        AssertableResponse sortedResponse = new AssertableResponse(given().queryParam("sort", sortType)
+                .get("/api/users/")
+                .then())
+                .should(hasStatusCode(200))
+                .should(isSortedDescBy("users[].id"));
 
-        Response notSorted = given()
-                .get("https://fakestoreapi.in/api/users/")
-                .then().log().all()
-                .extract().response();
+        AssertableResponse notSorted = new AssertableResponse(given()
+                .get("/api/users/")
+                .then());
 
-        List<Integer> sortedResponseIds = sortedResponse.jsonPath().getList("users.id");
-        List<Integer> notSortedIds = notSorted.jsonPath().getList("users.id");
+        long[] sortedResponseIds = JsonArrayStream.longs(sortedResponse.asSnapshot(), "users[].id");
+        long[] notSortedIds = JsonArrayStream.longs(notSorted.asSnapshot(), "users[].id");
 
-        List<Integer> sortedByCode = notSortedIds.stream()
-                .sorted(Comparator.reverseOrder())    // reverseOrder() - инверстно (от большего к меньшего)
-                                                      // naturalOrder () - естественный порядок (по возрастанию)
-                .toList();      // -> .collect(Collectors.toList());
+        //собственная сортировка по убыванию - на примитивном массиве, без Comparator и упаковки
+        long[] sortedByCode = sortedDesc(notSortedIds);
 
         //Actual   :[20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]
-        Assertions.assertNotEquals(sortedResponseIds, notSortedIds);
-        Assertions.assertEquals(sortedByCode, sortedResponseIds);
+        Assertions.assertFalse(Arrays.equals(sortedResponseIds, notSortedIds));
+        Assertions.assertArrayEquals(sortedByCode, sortedResponseIds);
     }
 
-    public static boolean doesNotHaveDuplicates(List<Integer> list) {
-        return list.stream().distinct().count() == list.size();
+    private static long[] sortedDesc(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            long swap = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = swap;
+        }
+        return sorted;
     }
 
     @Test
     public void testUniqueZipCode() {
         String sortType = "asc";
-        Response zipCodeResponse = given()
+        //zip-коды сравниваются как строки: "09316" и "9316" разные значения
+        //75070, 87835, 30806, 19699, 71670, 64908, 16482, 71355, 47177, 09316, 80044, 45275, 98096, 16642, 73260, 28227, 37670, 01691, 15230, 30914
+        new AssertableResponse(given()
                 .queryParam("sort", sortType)
                 .get(base_url)
-                .then()
-                .log().all()
-                .extract().response();
-
-        List<String> zipCodeList = zipCodeResponse.jsonPath().getList("users.address.zipcode");
-        //zipCodeList.add("75070"); // ---> отрицательный тест
-
-        List<Integer> integerListZipCode = zipCodeList
-                            .stream()
-                            .map(Integer::valueOf)
-                            .toList();
-
-        System.out.println("zipCodeList: " + zipCodeList);
-        //75070, 87835, 30806, 19699, 71670, 64908, 16482, 71355, 47177, 09316, 80044, 45275, 98096, 16642, 73260, 28227, 37670, 01691, 15230, 30914
-        Assertions.assertTrue(doesNotHaveDuplicates(integerListZipCode));
+                .then())
+                .should(hasUniqueValues("users[].address.zipcode"));
     }
 
     @Test
@@ -172,8 +169,8 @@ public class SimpleApiTests {
 
         given().body(bodyRequest)
                 .contentType(ContentType.JSON)
-                .post("https://fakestoreapi.in/api/users")
-                .then().log().all()
+                .post("/api/users")
+                .then()
                 .statusCode(200)
                 .body("user.id", notNullValue());
     }
@@ -209,17 +206,16 @@ public class SimpleApiTests {
         user.setPassword("newpass12333");
         given().contentType(ContentType.JSON)
                 .body(user)
-                .put("https://fakestoreapi.in/api/users/" + user.getId())
+                .put("/api/users/" + user.getId())
                 .then()
-                .log().all().statusCode(200)
+                .statusCode(200)
                 .body("user.password", not(equalTo(oldPassword)));
     }
 
     @Test
     public void deleteUserTest() {
-        given().delete("https://fakestoreapi.in/api/users/7")
+        given().delete("/api/users/7")
                 .then()
-                .log().all()
                 .statusCode(200);
 
     }
@@ -233,8 +229,8 @@ public class SimpleApiTests {
 
         given().contentType(ContentType.JSON)
                 .body(userAuth)
-                .post("https://fakestoreapi.in/auth/login")
-                .then().log().all();
+                .post("/auth/login")
+                .then();
                 //получаем токен из ответа + проверяем, что он не нулевой
                 //.body("token", notNullValue());
     }
@@ -2,18 +2,24 @@ package tests.swagertests;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
-import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import listener.CustomTpl;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import services.FileService;
+import utils.FileDigest;
+import utils.FixtureDigests;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import static assertions.Conditions.hasBodySize;
 import static assertions.Conditions.hasMessage;
+import static assertions.Conditions.hasSameContentAs;
 import static assertions.Conditions.hasStatusCode;
 
 public class FileTests {
@@ -22,9 +28,6 @@ public class FileTests {
 
     @BeforeAll
     public static void setUp() {
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
         fileService = new FileService();
     }
 
@@ -36,18 +39,21 @@ public class FileTests {
     }
     */
 
-    private void attachPng(byte[] bytes) {
-        Allure.getLifecycle().addAttachment("Downloaded", "image/png", "png", bytes);
+    @SneakyThrows
+    private void attachPng(Path file) {
+        try (InputStream content = Files.newInputStream(file)) {
+            Allure.addAttachment("Downloaded", "image/png", content, "png");
+        }
     }
 
     @Test
-    public void positiveDownloadTest() {
-        byte[] file = fileService.downloadsBaseImage()
-                .asResponse().asByteArray();
-        attachPng(file);
+    public void positiveDownloadTest(@TempDir Path tempDir) {
+        Path downloaded = tempDir.resolve("downloaded.jpeg");
+        FileDigest actual = fileService.downloadBaseImageTo(downloaded);
+        attachPng(downloaded);
         File expectedFile = new File("src/test/resources/threadqa.jpeg");
 
-        Assertions.assertEquals(expectedFile.length(), file.length);
+        Assertions.assertEquals(FixtureDigests.of(expectedFile), actual);
     }
 
     @Test
@@ -57,8 +63,21 @@ public class FileTests {
                 .should(hasStatusCode(200))
                 .should(hasMessage("file uploaded to server"));
 
-        byte[] actualFile = fileService.downloadLastFile().asResponse().asByteArray();
-        Assertions.assertTrue(actualFile.length != 0);
-        Assertions.assertEquals(expectedFile.length(), actualFile.length);
+        fileService.downloadLastFile()
+                .should(hasStatusCode(200))
+                .should(hasBodySize(FixtureDigests.of(expectedFile).getLength()))
+                .should(hasSameContentAs(expectedFile));
+    }
+
+    @Test
+    public void positiveStreamUploadTest() throws IOException {
+        File expectedFile = new File("src/test/resources/threadqa.jpeg");
+        try (InputStream content = Files.newInputStream(expectedFile.toPath())) {
+            fileService.uploadFile(content, "myFile")
+                    .should(hasStatusCode(200))
+                    .should(hasMessage("file uploaded to server"));
+        }
+
+        Assertions.assertEquals(FixtureDigests.of(expectedFile), fileService.digestLastFile());
     }
 }
@@ -1,34 +1,38 @@
 package tests.swagertests;
 
-import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.response.Response;
 import listener.AdminUser;
 import listener.AdminUserResolver;
-import listener.CustomTpl;
+import listener.AuthenticatedUser;
+import listener.RegisteredUser;
+import listener.RegisteredUserResolver;
 import models.swager.FullUser;
-import models.swager.Info;
-import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import services.UserService;
+import services.UserSession;
 
-import java.util.List;
 import java.util.Random;
 
+import static assertions.Conditions.hasArraySizeAtLeast;
+import static assertions.Conditions.hasLatencyPercentile;
 import static assertions.Conditions.hasMessage;
 import static assertions.Conditions.hasStatusCode;
+import static assertions.Conditions.matchesSchema;
+import static assertions.Conditions.respondsWithin;
 import static utils.RandomTestData.*;
 
-@ExtendWith(AdminUserResolver.class)
+@ExtendWith({AdminUserResolver.class, RegisteredUserResolver.class})
 public class UserNewTests {
 
+    // бюджеты с запасом на общий стенд: ловим деградацию в разы, а не сетевой шум
+    private static final long LOGIN_SLA_MS = 5000;
+    private static final long USER_INFO_SLA_MS = 5000;
+
     private static UserService userService;
-    private static FullUser user;
+    private FullUser user;
 
     @BeforeEach
     public void initTestUser() {
@@ -37,9 +41,6 @@ public class UserNewTests {
 
     @BeforeAll
     public static void setUp() {
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
         userService = new UserService();
     }
 
@@ -54,18 +55,9 @@ public class UserNewTests {
     @Test
     public void positiveRegisterWithGamesTest() {
         FullUser user = getRandomUserWithGames();
-        Response response = userService.register(user)
-                .should(hasStatusCode(201))
-                .should(hasMessage("User created"))
-                .asResponse();
-        Info info = response.jsonPath().getObject("info", Info.class);
-
-        SoftAssertions softAssertions = new SoftAssertions();
-        softAssertions.assertThat(response.statusCode()).as("Статус код не был 200")
-                .isEqualTo(201);
-        softAssertions.assertThat(info.getMessage()).as("Сообщение об ошибке было не верное")
-                .isEqualTo("User created"); //было "фейк мессядж" и тест падал/выводил сообщение
-        //softAssertions.assertAll(); //собирает все ошибки
+        //все проверки по одному ответу, упавшие выводятся вместе (вместо SoftAssertions)
+        userService.register(user)
+                .shouldAll(hasStatusCode(201), hasMessage("User created"));
     }
 
     //Пользователь уже существует
@@ -94,6 +86,8 @@ public class UserNewTests {
     public void positiveAdminAuthTest(@AdminUser FullUser admin) {
         String token = userService.auth(admin)
                 .should(hasStatusCode(200))
+                .should(respondsWithin(LOGIN_SLA_MS))
+                .should(hasLatencyPercentile("POST", "/api/login", 95, LOGIN_SLA_MS))
                 .asJwt();
 
         Assertions.assertNotNull(token);
@@ -102,8 +96,7 @@ public class UserNewTests {
     //создание нового пользователя: POST "/api/signup"
     //и получение токена: POST "/api/login"
     @Test
-    public void positiveNewUserAuthTest() {
-        userService.register(user);
+    public void positiveNewUserAuthTest(@RegisteredUser FullUser user) {
         String token = userService.auth(user)
                 .should(hasStatusCode(200)).asJwt();
 
@@ -120,10 +113,12 @@ public class UserNewTests {
     //Получение информации о пользователе: GET "/api/user"
     @Test
     public void positiveGetUserInfoTest(@AdminUser FullUser admin) {
-        String token = userService.auth(admin).asJwt();
+        String token = userService.getJwt(admin);
 
         userService.getUserInfo(token)
-                .should(hasStatusCode(200));
+                .should(hasStatusCode(200))
+                .should(respondsWithin(USER_INFO_SLA_MS))
+                .should(hasLatencyPercentile("GET", "/api/user", 95, USER_INFO_SLA_MS));
     }
 
     //Некорректный токен
@@ -141,25 +136,24 @@ public class UserNewTests {
 
     //Обновление пароля у пользователя: PUT '/api/user'
     @Test
-    public void positiveChangeUserPasswordTest() {
+    public void positiveChangeUserPasswordTest(@AuthenticatedUser UserSession session) {
+        FullUser user = session.getUser();
         String oldPassword = user.getPass();
-        userService.register(user);
-
-        userService.auth(user);
-
-        String token = userService.auth(user).asJwt();
 
         String updatedPassValue = "newPassUpdated";
 
-        userService.updatePass(updatedPassValue, token)
+        userService.updatePass(updatedPassValue, session.getJwt())
                 .should(hasStatusCode(200))
                 .should(hasMessage("User password successfully changed"));
 
         user.setPass(updatedPassValue);
 
-        token = userService.auth(user).should(hasStatusCode(200)).asJwt();
+        String token = userService.auth(user).should(hasStatusCode(200)).asJwt();
 
-        FullUser updatedUser = userService.getUserInfo(token).as(FullUser.class);
+        FullUser updatedUser = userService.getUserInfo(token)
+                .should(hasStatusCode(200))
+                .should(matchesSchema(FullUser.class))
+                .as(FullUser.class);
 
         Assertions.assertNotEquals(oldPassword, updatedUser.getPass());
     }
@@ -167,7 +161,7 @@ public class UserNewTests {
     //Попытка поменять админу пароль - негативный тест
     @Test
     public void negativeChangeAdminPasswordTest(@AdminUser FullUser admin) {
-        String token = userService.auth(admin).asJwt();
+        String token = userService.getJwt(admin);
 
         String updatedPassValue = "newPassUpdated";
         userService.updatePass(updatedPassValue, token)
@@ -178,7 +172,7 @@ public class UserNewTests {
     //попытка удалить пользователя (админа)
     @Test
     public void negativeDeleteAdminTest(@AdminUser FullUser admin) {
-        String token = userService.auth(admin).asJwt();
+        String token = userService.getJwt(admin);
 
         userService.deleteUser(token)
                 .should(hasStatusCode(400))
@@ -187,12 +181,8 @@ public class UserNewTests {
 
     //Удаление нового, созданного пользователя: DELETE "/api/user"
     @Test
-    public void positiveDeleteNewUserTest() {
-        userService.register(user);
-
-        String token = userService.auth(user).asJwt();
-
-        userService.deleteUser(token)
+    public void positiveDeleteNewUserTest(@AuthenticatedUser UserSession session) {
+        userService.deleteUser(session.getJwt())
                 .should(hasStatusCode(200))
                 .should(hasMessage("User successfully deleted"));
     }
@@ -200,7 +190,8 @@ public class UserNewTests {
     //Получение информации о всех пользователях: GET "/api/users"
     @Test
     public void positiveGetAllUsersTest() {
-        List<String> users = userService.getAllUsers().asList(String.class);
-        Assertions.assertTrue(users.size() >= 3);
+        userService.getAllUsers()
+                .should(hasStatusCode(200))
+                .should(hasArraySizeAtLeast(3));
     }
 }
\ No newline at end of file
@@ -3,18 +3,17 @@ package tests.swagertests;
 import assertions.AssertableResponse;
 import assertions.Conditions;
 import assertions.GenericAssertableResponse;
-import io.restassured.RestAssured;
+import config.Configs;
 import io.restassured.common.mapper.TypeRef;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
-import listener.CustomTpl;
+import io.restassured.specification.RequestSpecification;
 import models.swager.FullUser;
 import models.swager.Info;
 import models.swager.JwtAuthData;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import services.RequestSpecProvider;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,19 +22,19 @@ import java.util.Random;
 
 import static assertions.Conditions.hasMessage;
 import static assertions.Conditions.hasStatusCode;
-import static io.restassured.RestAssured.given;
 
 public class UserTests {
     private static Random random;
 
     @BeforeAll
     public static void setUp() {
-        RestAssured.baseURI = "http://85.192.34.140:8080/";
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter(),
-                CustomTpl.customLogFilter().withCustomTemplates());
         random = new Random();
     }
 
+    private static RequestSpecification given() {
+        return RequestSpecProvider.request(Configs.api().swaggerUri());
+    }
+
     @Test
     public void positiveRegisterTest() {
         int randomNumber = Math.abs(random.nextInt());
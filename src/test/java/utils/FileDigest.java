@@ -0,0 +1,56 @@
+package utils;
+
+import lombok.SneakyThrows;
+import lombok.Value;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+
+/**
+ * FileDigest - длина и sha-256 содержимого, посчитанные потоково, без загрузки файла в память
+ */
+@Value
+public class FileDigest {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    long length;
+    String sha256;
+
+    @SneakyThrows
+    public static FileDigest of(File file) {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return copy(in, OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Переливает поток в target и по пути считает длину и sha-256
+     */
+    @SneakyThrows
+    public static FileDigest copy(InputStream source, OutputStream target) {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        long length = 0;
+        try (DigestInputStream in = new DigestInputStream(source, digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                target.write(buffer, 0, read);
+                length += read;
+            }
+        }
+        target.flush();
+        return new FileDigest(length, toHex(digest.digest()));
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
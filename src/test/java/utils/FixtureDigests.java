@@ -0,0 +1,21 @@
+package utils;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FixtureDigests - кэш FileDigest для файлов-фикстур (src/test/resources/...).
+ * Файл хэшируется один раз за JVM, пока не изменились его размер и дата изменения.
+ */
+public final class FixtureDigests {
+    private static final Map<String, FileDigest> CACHE = new ConcurrentHashMap<>();
+
+    private FixtureDigests() {
+    }
+
+    public static FileDigest of(File file) {
+        String key = file.getAbsolutePath() + '|' + file.length() + '|' + file.lastModified();
+        return CACHE.computeIfAbsent(key, k -> FileDigest.of(file));
+    }
+}
@@ -0,0 +1,61 @@
+package utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Json - общий ObjectMapper и навигация по дереву простыми путями в стиле JSON Pointer:
+ * "info.message", "users[0].id", "[2]". Выражения Groovy (фильтры, spread по массиву,
+ * вызовы методов) здесь не разбираются - navigate() возвращает null, и вызывающий
+ * код откатывается на JsonPath.
+ */
+public final class Json {
+    public static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final Pattern SEGMENT = Pattern.compile("([A-Za-z_$][\\w$]*)?((?:\\[-?\\d+])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(-?\\d+)]");
+
+    private Json() {
+    }
+
+    /**
+     * Узел по пути, MissingNode если его нет, null если путь - не простой
+     */
+    public static JsonNode navigate(JsonNode root, String path) {
+        JsonNode node = root;
+        if (path == null || path.isEmpty() || path.equals("$")) {
+            return node;
+        }
+        for (String segment : path.split("\\.", -1)) {
+            Matcher matcher = SEGMENT.matcher(segment);
+            if (segment.isEmpty() || !matcher.matches()) {
+                return null;
+            }
+            String field = matcher.group(1);
+            if (field != null) {
+                if (node.isArray()) {
+                    //в GPath "users.id" собирает поле со всех элементов
+                    return null;
+                }
+                node = node.path(field);
+            }
+            Matcher index = INDEX.matcher(matcher.group(2));
+            while (index.find()) {
+                int position = Integer.parseInt(index.group(1));
+                node = node.path(position < 0 ? node.size() + position : position);
+            }
+            if (node.isMissingNode()) {
+                return MissingNode.getInstance();
+            }
+        }
+        return node;
+    }
+}
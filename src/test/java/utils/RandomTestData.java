@@ -1,74 +1,33 @@
 package utils;
 
-import com.github.javafaker.Faker;
-import models.swager.DlcsItem;
 import models.swager.FullUser;
 import models.swager.GamesItem;
-import models.swager.Requirements;
-import models.swager.SimilarDlc;
 
-import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * RandomTestData - статический доступ к TestDataGenerator текущего потока.
+ * Потоки не делят между собой ни Random, ни Faker.
+ * Перед каждым тестом TestDataSeedExtension пересоздает генератор с seed теста.
+ */
 public class RandomTestData {
-    private static final Random random = new Random();
-    private static final Faker faker = new Faker();
+    private static final ThreadLocal<TestDataGenerator> generator =
+            ThreadLocal.withInitial(() -> new TestDataGenerator(ThreadLocalRandom.current().nextLong()));
 
-    public static GamesItem getRandomGame() {
-        SimilarDlc similarDlc = SimilarDlc.builder()
-                .isFree(false)
-                .dlcNameFromAnotherGame(faker.funnyName().name())
-                .build();
-
-        DlcsItem dlcsItem = DlcsItem.builder()
-                .rating(faker.random().nextInt(10))
-                .price(faker.random().nextInt(1, 500))
-                .description(faker.funnyName().name())
-                .dlcName(faker.dragonBall().character())
-                .isDlcFree(false)
-                .similarDlc(similarDlc).build();
-
-        Requirements requirements = Requirements.builder()
-                .ramGb(faker.random().nextInt(4, 16))
-                .osName("Windows")
-                .hardDrive(faker.random().nextInt(30, 70))
-                .videoCard("NVIDEA")
-                .build();
+    public static void reseed(long seed) {
+        generator.set(new TestDataGenerator(seed));
+    }
 
-        return GamesItem.builder()
-                .requirements(requirements)
-                .genre(faker.book().genre())
-                .price(random.nextInt(400))
-                .description(faker.funnyName().name())
-                .company(faker.company().name())
-                .isFree(false)
-                .title(faker.beer().name())
-                .rating(faker.random().nextInt(10))
-                .publishDate(LocalDateTime.now().toString())
-                .requiredAge(random.nextBoolean())
-                .tags(Arrays.asList("shooter", "quests"))
-                .dlcs(Collections.singletonList(dlcsItem))
-                .build();
+    public static GamesItem getRandomGame() {
+        return generator.get().game();
     }
 
     public static FullUser getRandomUserWithGames() {
-        int randomNumber = Math.abs(random.nextInt());
-        GamesItem gamesItem = getRandomGame();
-        return FullUser.builder()
-                .login(faker.name().username() + randomNumber)
-                .pass(faker.internet().password())
-                .games(Collections.singletonList(gamesItem))
-                .build();
+        return generator.get().userWithGames();
     }
 
     public static FullUser getRandomUser() {
-        int randomNumber = Math.abs(random.nextInt());
-        return FullUser.builder()
-                .login("threadSergQAUser" + randomNumber)
-                .pass("passwordCOOL")
-                .build();
+        return generator.get().user();
     }
 
     public static FullUser getAdminUser() {
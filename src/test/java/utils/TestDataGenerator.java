@@ -0,0 +1,164 @@
+package utils;
+
+import com.github.javafaker.Faker;
+import models.swager.DlcsItem;
+import models.swager.FullUser;
+import models.swager.GamesItem;
+import models.swager.Requirements;
+import models.swager.SimilarDlc;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * TestDataGenerator - генератор тестовых данных с собственным SplittableRandom.
+ * Один экземпляр на поток (или на задачу), одинаковый seed дает одинаковые данные,
+ * кроме логинов - они уникальны в пределах прогона, см. UniqueLogins.
+ * Faker используется один раз: при старте из него набирается словарь значений,
+ * дальше данные собираются выбором из словаря без обращения к YAML Faker'а.
+ */
+public class TestDataGenerator {
+    private static final String PASSWORD_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    // даты выхода игр - смещение от фиксированной точки, чтобы seed воспроизводил и их
+    private static final LocalDateTime PUBLISH_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final long PUBLISH_RANGE_SECONDS = ChronoUnit.SECONDS.between(PUBLISH_EPOCH, LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    private final SplittableRandom random;
+
+    public TestDataGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private TestDataGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Независимый генератор для другого потока, детерминированно производный от текущего
+     */
+    public TestDataGenerator split() {
+        return new TestDataGenerator(random.split());
+    }
+
+    public GamesItem game() {
+        Vocabulary words = Vocabulary.instance();
+        SimilarDlc similarDlc = SimilarDlc.builder()
+                .isFree(false)
+                .dlcNameFromAnotherGame(pick(words.funnyNames))
+                .build();
+
+        DlcsItem dlcsItem = DlcsItem.builder()
+                .rating(random.nextInt(10))
+                .price(random.nextInt(1, 500))
+                .description(pick(words.funnyNames))
+                .dlcName(pick(words.characters))
+                .isDlcFree(false)
+                .similarDlc(similarDlc).build();
+
+        Requirements requirements = Requirements.builder()
+                .ramGb(random.nextInt(4, 16))
+                .osName("Windows")
+                .hardDrive(random.nextInt(30, 70))
+                .videoCard("NVIDEA")
+                .build();
+
+        return GamesItem.builder()
+                .requirements(requirements)
+                .genre(pick(words.genres))
+                .price(random.nextInt(400))
+                .description(pick(words.funnyNames))
+                .company(pick(words.companies))
+                .isFree(false)
+                .title(pick(words.titles))
+                .rating(random.nextInt(10))
+                .publishDate(PUBLISH_EPOCH.plusSeconds(random.nextLong(PUBLISH_RANGE_SECONDS)).toString())
+                .requiredAge(random.nextBoolean())
+                .tags(Arrays.asList("shooter", "quests"))
+                .dlcs(Collections.singletonList(dlcsItem))
+                .build();
+    }
+
+    public FullUser userWithGames() {
+        return FullUser.builder()
+                .login(UniqueLogins.next(pick(Vocabulary.instance().usernames)))
+                .pass(password())
+                .games(Collections.singletonList(game()))
+                .build();
+    }
+
+    public FullUser user() {
+        return FullUser.builder()
+                .login(UniqueLogins.next("threadSergQAUser"))
+                .pass("passwordCOOL")
+                .build();
+    }
+
+    public List<FullUser> usersWithGames(int count) {
+        List<FullUser> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(userWithGames());
+        }
+        return users;
+    }
+
+    private String password() {
+        int length = random.nextInt(8, 17);
+        StringBuilder password = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            password.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+        }
+        return password.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Vocabulary - значения Faker, набранные один раз за JVM с фиксированным seed
+     */
+    private static class Vocabulary {
+        private static final int SIZE = 512;
+        private static final long SEED = 42L;
+
+        private final String[] funnyNames;
+        private final String[] characters;
+        private final String[] genres;
+        private final String[] companies;
+        private final String[] titles;
+        private final String[] usernames;
+
+        private Vocabulary() {
+            Faker faker = new Faker(new Random(SEED));
+            funnyNames = sample(() -> faker.funnyName().name());
+            characters = sample(() -> faker.dragonBall().character());
+            genres = sample(() -> faker.book().genre());
+            companies = sample(() -> faker.company().name());
+            titles = sample(() -> faker.beer().name());
+            usernames = sample(() -> faker.name().username());
+        }
+
+        static Vocabulary instance() {
+            return InitVocabulary.vocabulary;
+        }
+
+        private static String[] sample(Supplier<String> source) {
+            String[] values = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = source.get();
+            }
+            return values;
+        }
+
+        private static class InitVocabulary {
+            private static final Vocabulary vocabulary = new Vocabulary();
+        }
+    }
+}
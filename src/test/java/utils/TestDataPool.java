@@ -0,0 +1,50 @@
+package utils;
+
+import models.swager.FullUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * TestDataPool - пакетная генерация пользователей с играми.
+ * Пакет режется на части, каждая часть генерируется параллельно своим генератором,
+ * seed части выводится из общего seed и ее номера - результат не зависит от числа потоков.
+ */
+public final class TestDataPool {
+    private static final int CHUNK_SIZE = 1000;
+    private static final ConcurrentLinkedQueue<FullUser> USERS_WITH_GAMES = new ConcurrentLinkedQueue<>();
+
+    private TestDataPool() {
+    }
+
+    public static List<FullUser> usersWithGames(int count, long seed) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> new TestDataGenerator(chunkSeed(seed, chunk))
+                        .usersWithGames(Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .collect(ArrayList<FullUser>::new, List::addAll, List::addAll);
+    }
+
+    /**
+     * Заранее наполняет пул в фоне, пока тесты заняты другим
+     */
+    public static CompletableFuture<Void> prefetchUsersWithGames(int count, long seed) {
+        return CompletableFuture.runAsync(() -> USERS_WITH_GAMES.addAll(usersWithGames(count, seed)));
+    }
+
+    /**
+     * Пользователь из пула, если пул пуст - null
+     */
+    public static FullUser pollUserWithGames() {
+        return USERS_WITH_GAMES.poll();
+    }
+
+    private static long chunkSeed(long seed, int chunk) {
+        return new SplittableRandom(seed + chunk * 0x9E3779B97F4A7C15L).nextLong();
+    }
+}
@@ -0,0 +1,43 @@
+package utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TestSeeds - seed прогона и производные seed для каждого теста.
+ * Seed теста = f(seed прогона, uniqueId теста), поэтому тест воспроизводится
+ * повторным запуском с тем же seed прогона:
+ *   ./gradlew test --tests 'tests.swagertests.UserNewTests' -Dtestdata.seed=<seed прогона>
+ * либо напрямую seed конкретного теста: -Dtestdata.testSeed=<seed теста>
+ */
+public final class TestSeeds {
+    public static final String RUN_SEED_PROPERTY = "testdata.seed";
+    public static final String TEST_SEED_PROPERTY = "testdata.testSeed";
+
+    private static final long RUN_SEED = Long.getLong(RUN_SEED_PROPERTY, ThreadLocalRandom.current().nextLong());
+
+    private TestSeeds() {
+    }
+
+    public static long runSeed() {
+        return RUN_SEED;
+    }
+
+    public static long forTest(String uniqueId) {
+        Long forced = Long.getLong(TEST_SEED_PROPERTY);
+        if (forced != null) {
+            return forced;
+        }
+        return new SplittableRandom(RUN_SEED ^ fnv1a(uniqueId)).nextLong();
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,22 @@
+package utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UniqueLogins - логины без коллизий: пространство имен прогона + монотонный счетчик.
+ * Пространство имен не зависит от seed, поэтому повторный прогон с тем же seed
+ * не упирается в "Login already exist".
+ */
+public final class UniqueLogins {
+    private static final String RUN_NAMESPACE = Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36), 36);
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private UniqueLogins() {
+    }
+
+    public static String next(String prefix) {
+        return prefix + RUN_NAMESPACE + "x" + COUNTER.incrementAndGet();
+    }
+}